@@ -0,0 +1,64 @@
+// com/dnac/bench/HttpExecutorBenchmark.java
+package com.dnac.bench;
+
+import com.dnac.sdk.auth.BasicAuthTokenProvider;
+import com.dnac.sdk.auth.CachingTokenProvider;
+import com.dnac.sdk.auth.TokenProvider;
+import com.dnac.sdk.config.DnacConfig;
+import com.dnac.sdk.config.HttpClientFactory;
+import com.dnac.sdk.http.HttpExecutor;
+import com.dnac.sdk.http.JsonSupport;
+import com.dnac.sdk.model.device.DeviceResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call overhead of HttpExecutor (URI and query building, token lookup, request building,
+ * response handling) against an in-process stub, so the network adds only loopback latency.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dsun.net.httpserver.nodelay=true")
+@State(Scope.Benchmark)
+public class HttpExecutorBenchmark {
+    private StubDnac stub;
+    private HttpExecutor http;
+    private Map<String, String> query;
+
+    @Setup
+    public void setup() throws Exception {
+        stub = new StubDnac(500);
+        DnacConfig cfg = new DnacConfig(stub.baseUri(), "bench", "bench", false, null, null);
+        HttpClient client = HttpClientFactory.create(cfg);
+        JsonSupport json = new JsonSupport();
+        TokenProvider tokens = new CachingTokenProvider(new BasicAuthTokenProvider(cfg, client, json), Duration.ofMinutes(55));
+        http = new HttpExecutor(cfg, client, tokens, json);
+        query = new LinkedHashMap<>();
+        query.put("hostname", "sw-1.example.net");
+        query.put("platformId", "C9300-48U");
+        query.put("offset", "1");
+        query.put("limit", "500");
+    }
+
+    @TearDown
+    public void tearDown() {
+        stub.close();
+    }
+
+    @Benchmark
+    public String getStringWithQuery() throws Exception {
+        return http.get("/dna/intent/api/v1/network-device/3f2a1b4c-1111-2222-3333-444455556666", query);
+    }
+
+    @Benchmark
+    public DeviceResponse getTyped() throws Exception {
+        return http.get("/dna/intent/api/v1/network-device/3f2a1b4c-1111-2222-3333-444455556666", null, DeviceResponse.class);
+    }
+}
@@ -0,0 +1,71 @@
+// com/dnac/bench/JsonDecodeBenchmark.java
+package com.dnac.bench;
+
+import com.dnac.sdk.http.JsonSupport;
+import com.dnac.sdk.model.device.NetworkDeviceResponse;
+import com.dnac.sdk.model.site.SiteListResponse;
+import com.fasterxml.jackson.databind.JavaType;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decode cost of the two largest list payloads: from a String (the old BodyHandlers.ofString path,
+ * UTF-8 decoded into a String and then parsed), from bytes, and from a stream (what HttpExecutor
+ * does now). Run with {@code -prof gc} and compare {@code gc.alloc.rate.norm}: the String path
+ * allocates the whole body a second time as chars on top of the object graph, and holds both at
+ * once, while the stream path allocates only the parser's buffers, e.g.
+ * {@code java -jar target/benchmarks.jar JsonDecodeBenchmark -prof gc}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonDecodeBenchmark {
+    @Param({"100", "10000", "100000"})
+    public int elements;
+
+    private JsonSupport json;
+    private JavaType devicesType;
+    private JavaType sitesType;
+    private byte[] devices;
+    private byte[] sites;
+
+    @Setup
+    public void setup() {
+        json = new JsonSupport();
+        devicesType = json.type(NetworkDeviceResponse.class);
+        sitesType = json.type(SiteListResponse.class);
+        devices = Payloads.networkDevices(elements);
+        sites = Payloads.sites(elements);
+    }
+
+    @Benchmark
+    public NetworkDeviceResponse devicesFromString() throws Exception {
+        return json.reader(devicesType).readValue(new String(devices, StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public NetworkDeviceResponse devicesFromBytes() throws Exception {
+        return json.read(devices, devicesType);
+    }
+
+    @Benchmark
+    public NetworkDeviceResponse devicesFromStream() throws Exception {
+        return json.read(new ByteArrayInputStream(devices), devicesType);
+    }
+
+    @Benchmark
+    public SiteListResponse sitesFromBytes() throws Exception {
+        return json.read(sites, sitesType);
+    }
+
+    @Benchmark
+    public SiteListResponse sitesFromStream() throws Exception {
+        return json.read(new ByteArrayInputStream(sites), sitesType);
+    }
+}
@@ -0,0 +1,60 @@
+// com/dnac/bench/LegacyVsSdkBenchmark.java
+package com.dnac.bench;
+
+import com.dnac.Dnac;
+import com.dnac.sdk.DnacClientImpl;
+import com.dnac.sdk.config.DnacConfig;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/** The legacy static client against DnacClientImpl for the same calls on the same stub. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dsun.net.httpserver.nodelay=true")
+@State(Scope.Benchmark)
+public class LegacyVsSdkBenchmark {
+    private StubDnac stub;
+    private DnacClientImpl client;
+
+    @Setup
+    public void setup() throws Exception {
+        stub = new StubDnac(500);
+        Properties p = new Properties();
+        p.setProperty("dnac.host", stub.baseUri().toString());
+        p.setProperty("dnac.username", "bench");
+        p.setProperty("dnac.password", "bench");
+        Dnac.initialize(p);
+        client = new DnacClientImpl(new DnacConfig(stub.baseUri(), "bench", "bench", false, null, null));
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.close();
+        stub.close();
+    }
+
+    @Benchmark
+    public Object legacyDeviceById() throws Exception {
+        return Dnac.getDeviceById("3f2a1b4c-1111-2222-3333-444455556666");
+    }
+
+    @Benchmark
+    public Object sdkDeviceById() throws Exception {
+        return client.devices().getById("3f2a1b4c-1111-2222-3333-444455556666");
+    }
+
+    @Benchmark
+    public List<?> legacyDeviceList() throws Exception {
+        return Dnac.getDevices();
+    }
+
+    @Benchmark
+    public List<?> sdkDeviceList() throws Exception {
+        return client.devices().listAll();
+    }
+}
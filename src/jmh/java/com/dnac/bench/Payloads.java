@@ -0,0 +1,42 @@
+// com/dnac/bench/Payloads.java
+package com.dnac.bench;
+
+import java.nio.charset.StandardCharsets;
+
+/** Synthetic DNAC response bodies shaped like real /network-device and /site payloads. */
+final class Payloads {
+    private Payloads() {}
+
+    static byte[] networkDevices(int n) {
+        StringBuilder sb = new StringBuilder(n * 420 + 64).append("{\"response\":[");
+        for (int i = 0; i < n; i++) {
+            if (i > 0) sb.append(',');
+            sb.append("{\"id\":\"").append(uuid(i))
+              .append("\",\"hostname\":\"sw-").append(i).append(".example.net\"")
+              .append(",\"managementIpAddress\":\"10.").append((i >> 16) & 255).append('.').append((i >> 8) & 255).append('.').append(i & 255).append('"')
+              .append(",\"type\":\"Cisco Catalyst 9300 Switch\",\"softwareVersion\":\"17.9.4\"")
+              .append(",\"serialNumber\":\"FOC").append(100000 + i).append("X\"")
+              .append(",\"platformId\":\"C9300-48U\",\"family\":\"Switches and Hubs\",\"role\":\"ACCESS\"")
+              .append(",\"reachabilityStatus\":\"Reachable\",\"upTime\":\"112 days, 3:14:07.00\"")
+              .append(",\"lastUpdateTime\":").append(1_700_000_000_000L + i)
+              .append(",\"lastUpdated\":\"2024-05-01 10:00:00\"}");
+        }
+        return sb.append("],\"version\":\"1.0\"}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    static byte[] sites(int n) {
+        StringBuilder sb = new StringBuilder(n * 200 + 64).append("{\"response\":[");
+        for (int i = 0; i < n; i++) {
+            if (i > 0) sb.append(',');
+            sb.append("{\"id\":\"").append(uuid(i))
+              .append("\",\"name\":\"Site-").append(i)
+              .append("\",\"siteNameHierarchy\":\"Global/Region/Site-").append(i)
+              .append("\",\"parentId\":\"").append(uuid(i / 10)).append("\"}");
+        }
+        return sb.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String uuid(int i) {
+        return String.format("%08x-0000-4000-8000-%012x", i, (long) i * 7919);
+    }
+}
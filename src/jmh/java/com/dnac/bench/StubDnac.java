@@ -0,0 +1,75 @@
+// com/dnac/bench/StubDnac.java
+package com.dnac.bench;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/** Minimal in-process DNAC for benchmarks: canned bodies, no latency, no failures. */
+final class StubDnac implements AutoCloseable {
+    static {
+        // Otherwise each response waits out the client's delayed ACK and the benchmarks measure ~40 ms of TCP
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    private final HttpServer server;
+    private final ExecutorService pool = Executors.newFixedThreadPool(8);
+
+    StubDnac(int devices) throws IOException {
+        byte[] token = "{\"Token\":\"bench-token\"}".getBytes(StandardCharsets.UTF_8);
+        byte[] device = "{\"response\":{\"id\":\"3f2a1b4c-1111-2222-3333-444455556666\",\"hostname\":\"sw1\",\"managementIpAddress\":\"10.0.0.1\",\"platformId\":\"C9300-48U\",\"serialNumber\":\"FOC1234X0AB\"}}"
+                .getBytes(StandardCharsets.UTF_8);
+        byte[] count = ("{\"response\":" + devices + "}").getBytes(StandardCharsets.UTF_8);
+        byte[] all = Payloads.networkDevices(devices);
+        byte[] sites = Payloads.sites(100);
+
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", ex -> {
+            String p = ex.getRequestURI().getPath();
+            byte[] body;
+            if (p.endsWith("/auth/token")) body = token;
+            else if (p.endsWith("/network-device/count")) body = count;
+            else if (p.endsWith("/network-device")) body = page(ex.getRequestURI().getQuery(), devices, all);
+            else if (p.contains("/network-device/")) body = device;
+            else if (p.endsWith("/site")) body = sites;
+            else body = "{}".getBytes(StandardCharsets.UTF_8);
+            ex.getRequestBody().readAllBytes();
+            ex.getResponseHeaders().set("Content-Type", "application/json");
+            ex.sendResponseHeaders(200, body.length);
+            try (OutputStream os = ex.getResponseBody()) {
+                os.write(body);
+            }
+        });
+        server.setExecutor(pool);
+        server.start();
+    }
+
+    // Honors offset/limit like DNAC (1-based offset); without a query the whole list is returned.
+    private static byte[] page(String query, int devices, byte[] all) {
+        if (query == null) return all;
+        int offset = 1, limit = devices;
+        for (String kv : query.split("&")) {
+            String[] p = kv.split("=", 2);
+            if (p.length < 2) continue;
+            if (p[0].equals("offset")) offset = Integer.parseInt(p[1]);
+            if (p[0].equals("limit")) limit = Integer.parseInt(p[1]);
+        }
+        int n = Math.max(0, Math.min(limit, devices - offset + 1));
+        return Payloads.networkDevices(n);
+    }
+
+    URI baseUri() {
+        return URI.create("http://127.0.0.1:" + server.getAddress().getPort());
+    }
+
+    @Override public void close() {
+        server.stop(0);
+        pool.shutdownNow();
+    }
+}
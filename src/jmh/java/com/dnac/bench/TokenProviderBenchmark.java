@@ -0,0 +1,39 @@
+// com/dnac/bench/TokenProviderBenchmark.java
+package com.dnac.bench;
+
+import com.dnac.sdk.auth.CachingTokenProvider;
+import com.dnac.sdk.auth.TokenProvider;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/** Cached-token hot path under contention; the delegate is never hit after the first call. */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TokenProviderBenchmark {
+    private TokenProvider tokens;
+
+    @Setup
+    public void setup() throws Exception {
+        TokenProvider constant = () -> "bench-token";
+        tokens = new CachingTokenProvider(constant, Duration.ofHours(1));
+        tokens.getToken();
+    }
+
+    @Benchmark @Threads(1)
+    public String threads001() throws Exception { return tokens.getToken(); }
+
+    @Benchmark @Threads(8)
+    public String threads008() throws Exception { return tokens.getToken(); }
+
+    @Benchmark @Threads(64)
+    public String threads064() throws Exception { return tokens.getToken(); }
+
+    @Benchmark @Threads(256)
+    public String threads256() throws Exception { return tokens.getToken(); }
+}
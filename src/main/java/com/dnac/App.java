@@ -13,6 +13,7 @@ import com.dnac.sdk.model.site.SiteListResponse;
 import java.io.IOException;
 import java.net.URI;
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.InputMismatchException;
 import java.util.List;
 import java.util.Optional;
@@ -22,6 +23,11 @@ import java.util.Scanner;
 public class App {
 
     public static void main(String[] args) {
+        if (LoadGenerator.isLoadMode(args)) {
+            // Headless capacity test; see LoadGenerator for the options
+            System.exit(LoadGenerator.run(Arrays.copyOfRange(args, 1, args.length), loadPropertiesOrNull()));
+        }
+
         System.out.println("Java App-Only Cisco DNAC Tutorial\n");
 
         final Properties props = new Properties();
@@ -102,7 +108,18 @@ public class App {
         }
     }
 
-    private static DnacConfig buildConfig(Properties p) {
+    private static Properties loadPropertiesOrNull() {
+        try (var in = App.class.getResourceAsStream("/dnac.properties")) {
+            if (in == null) return null;
+            Properties p = new Properties();
+            p.load(in);
+            return p;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    static DnacConfig buildConfig(Properties p) {
         String host = trimTrailingSlash(required(p, "dnac.host"));
         String username = required(p, "dnac.username");
         String password = required(p, "dnac.password");
@@ -0,0 +1,507 @@
+package com.dnac;
+
+import com.dnac.sdk.DnacClientImpl;
+import com.dnac.sdk.config.DnacConfig;
+import com.dnac.sdk.config.HttpClientFactory;
+import com.dnac.sdk.exceptions.DnacHttpStatusException;
+import com.dnac.sdk.http.Futures;
+import com.dnac.sdk.limits.RetryLimits;
+import com.dnac.sdk.metrics.DnacMetrics;
+import com.dnac.sdk.metrics.LatencyHistogram;
+import com.dnac.sdk.model.device.Device;
+import com.dnac.sdk.sim.DnacSimulator;
+import com.dnac.sdk.sim.SimulatorOptions;
+
+import java.io.PrintStream;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Headless capacity test: drives a mix of SDK operations at a fixed rate (open loop) or a fixed
+ * number of concurrent callers (closed loop) for a set duration, then prints throughput,
+ * latency percentiles, errors and retries per operation.
+ * <pre>
+ *   App --load --ops getById:5,getBySerial,counts --concurrency 32 --duration 60s
+ *   App --load --ops listDevices,sites --rate 20 --duration 2m --warmup 10s
+ *   App --load --sim 5000 --sim-latency 20ms:250ms --sim-429 0.01 --ops getById --rate 500
+ *   App --load --sim --sim-latency 50ms --ops getById --virtual-callers 10000   (JDK 21+)
+ * </pre>
+ * Without {@code --sim} the target comes from dnac.properties. {@code --virtual-callers} doubles
+ * as a check: the run exits 1 unless every caller was blocked in a call at the same time and JFR
+ * saw no virtual thread park while pinned to its carrier. In rate mode latency is measured
+ * from each request's scheduled start, so a stalled controller shows up in the percentiles
+ * instead of silently lowering the offered load.
+ */
+final class LoadGenerator {
+
+    enum Op {
+        LIST_DEVICES("listDevices"), GET_BY_ID("getById"), GET_BY_SERIAL("getBySerial"),
+        COUNTS("counts"), SITES("sites"), COMMAND_RUNNER("command-runner");
+
+        final String label;
+        Op(String label) { this.label = label; }
+
+        static Op of(String label) {
+            for (Op op : values()) if (op.label.equalsIgnoreCase(label)) return op;
+            throw new IllegalArgumentException("Unknown op '" + label + "'; expected one of "
+                    + Arrays.stream(values()).map(o -> o.label).toList());
+        }
+
+        boolean needsInventory() { return this == GET_BY_ID || this == GET_BY_SERIAL || this == COMMAND_RUNNER; }
+    }
+
+    private static final class OpStats {
+        final LatencyHistogram latency = new LatencyHistogram();
+        final LongAdder ok = new LongAdder();
+        final LongAdder failed = new LongAdder();
+        final ConcurrentHashMap<String, LongAdder> errors = new ConcurrentHashMap<>();
+    }
+
+    /** Counts what the executor reports so retries show up next to the call-level numbers. */
+    private static final class RetryCounter implements DnacMetrics {
+        final LongAdder attempts = new LongAdder();
+        final ConcurrentHashMap<String, LongAdder> retries = new ConcurrentHashMap<>();
+        final ConcurrentHashMap<String, LongAdder> suppressed = new ConcurrentHashMap<>();
+
+        @Override public void requestCompleted(String method, String endpoint, int status, int attempt, long latencyNanos) {
+            attempts.increment();
+        }
+        @Override public void retryScheduled(String method, String endpoint, String reason, int attempt) {
+            retries.computeIfAbsent(reason, k -> new LongAdder()).increment();
+        }
+        @Override public void retrySuppressed(String method, String endpoint, String reason, int attempt) {
+            suppressed.computeIfAbsent(reason, k -> new LongAdder()).increment();
+        }
+    }
+
+    private final Map<String, String> args;
+    private final PrintStream out;
+    private final Op[] mix;                  // weighted: an op appears once per unit of weight
+    private final Map<Op, OpStats> stats = new EnumMap<>(Op.class);
+    private final RetryCounter retries = new RetryCounter();
+    private final LongAdder dropped = new LongAdder();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private DnacClientImpl client;
+    private List<Device> inventory = List.of();
+    private volatile long measureFrom;       // nanoTime; calls started earlier are warm-up
+    private boolean virtualCheckPassed = true;
+
+    private LoadGenerator(Map<String, String> args, PrintStream out) {
+        this.args = args;
+        this.out = out;
+        List<Op> ops = new ArrayList<>();
+        for (String spec : args.getOrDefault("ops", "getById,getBySerial,counts").split(",")) {
+            String[] kv = spec.trim().split(":");
+            Op op = Op.of(kv[0]);
+            int weight = kv.length > 1 ? Integer.parseInt(kv[1]) : 1;
+            for (int i = 0; i < weight; i++) ops.add(op);
+            stats.putIfAbsent(op, new OpStats());
+        }
+        this.mix = ops.toArray(Op[]::new);
+    }
+
+    /** Entry point for {@code App --load ...}; returns the process exit code. */
+    static int run(String[] argv, Properties props) {
+        Map<String, String> args;
+        try {
+            args = parse(argv);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            usage(System.err);
+            return 2;
+        }
+        if (args.containsKey("help")) {
+            usage(System.out);
+            return 0;
+        }
+        DnacSimulator sim = null;
+        try {
+            LoadGenerator gen = new LoadGenerator(args, System.out);
+            DnacConfig cfg;
+            if (args.containsKey("sim")) {
+                sim = DnacSimulator.start(simOptions(args));
+                cfg = new DnacConfig(sim.baseUri(), "load", "load", false, null, null);
+                System.out.println("Simulator listening on " + sim.baseUri());
+            } else {
+                if (props == null) throw new IllegalArgumentException("dnac.properties not found; use --sim or add it to the classpath");
+                cfg = App.buildConfig(props);
+            }
+            if (args.containsKey("http")) {
+                cfg = cfg.withHttpVersion(args.get("http").startsWith("1") ? HttpClient.Version.HTTP_1_1 : HttpClient.Version.HTTP_2);
+            }
+            if (args.containsKey("gzip")) cfg = cfg.withCompression(true);
+            if (args.containsKey("retry-budget")) cfg = cfg.withRetryBudget(retryLimits(args.get("retry-budget")));
+            if (args.containsKey("threads")) cfg = cfg.withBoundedExecutor(Integer.parseInt(args.get("threads")));
+            if (args.containsKey("virtual-threads")) cfg = cfg.withVirtualThreads();
+            gen.execute(cfg.withMetrics(gen.retries));
+            if (sim != null) {
+                System.out.printf("Simulator: %d requests, %d injected 429, %d injected 5xx, %d tokens issued%n",
+                        sim.requestCount(), sim.injected429Count(), sim.injected5xxCount(), sim.tokensIssued());
+            }
+            return gen.virtualCheckPassed ? 0 : 1;
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            return 2;
+        } catch (Exception e) {
+            System.err.println("Load run failed: " + Futures.unwrap(e));
+            return 1;
+        } finally {
+            if (sim != null) sim.close();
+        }
+    }
+
+    private void execute(DnacConfig cfg) throws Exception {
+        Duration duration = duration(args.getOrDefault("duration", "30s"));
+        Duration warmup = duration(args.getOrDefault("warmup", "0s"));
+        try (DnacClientImpl c = new DnacClientImpl(cfg)) {
+            this.client = c;
+            c.warmUp().get();
+            if (Arrays.stream(mix).anyMatch(Op::needsInventory)) {
+                inventory = c.devices().listAll();
+                if (inventory.isEmpty()) throw new IllegalArgumentException("getById/getBySerial/command-runner need at least one device");
+                out.println("Loaded " + inventory.size() + " devices for lookups");
+            }
+
+            boolean rateMode = args.containsKey("rate");
+            boolean virtualMode = args.containsKey("virtual-callers");
+            out.printf("Running %s for %s (warm-up %s), ops %s%n",
+                    rateMode ? args.get("rate") + " ops/s"
+                            : virtualMode ? args.get("virtual-callers") + " blocking virtual-thread callers"
+                            : concurrency() + " concurrent callers",
+                    duration, warmup, args.getOrDefault("ops", "getById,getBySerial,counts"));
+
+            long start = System.nanoTime();
+            measureFrom = start + warmup.toNanos();
+            long end = measureFrom + duration.toNanos();
+
+            ScheduledExecutorService progress = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "load-progress");
+                t.setDaemon(true);
+                return t;
+            });
+            progress.scheduleAtFixedRate(() -> progress(start), 5, 5, TimeUnit.SECONDS);
+            try {
+                if (rateMode) runAtRate(Double.parseDouble(args.get("rate")), end);
+                else if (virtualMode) virtualCheckPassed = runVirtual(Integer.parseInt(args.get("virtual-callers")), end);
+                else runConcurrent(concurrency(), end);
+            } finally {
+                progress.shutdownNow();
+            }
+            report(duration.toNanos());
+            if (c.compression() != null) {
+                out.printf("Compression: %d encoded / %d plain responses, %d bytes on the wire -> %d inflated (%.1fx)%n",
+                        c.compression().compressedResponses(), c.compression().identityResponses(),
+                        c.compression().compressedBytes(), c.compression().inflatedBytes(), c.compression().ratio());
+            }
+        }
+    }
+
+    private int concurrency() { return Integer.parseInt(args.getOrDefault("concurrency", "8")); }
+
+    /** Closed loop: each caller issues its next call when the previous one finishes. */
+    private void runConcurrent(int callers, long end) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(callers);
+        for (int i = 0; i < callers; i++) loop(end, done);
+        done.await();
+    }
+
+    private void loop(long end, CountDownLatch done) {
+        long now = System.nanoTime();
+        if (now - end >= 0) {
+            done.countDown();
+            return;
+        }
+        issue(pick(), now).whenCompleteAsync((v, e) -> loop(end, done));
+    }
+
+    /**
+     * Closed loop on virtual threads: each caller uses the blocking API, as application code on
+     * virtual threads would. Passes when all callers were in flight at once (a pinned carrier would
+     * hold the others back) and JFR reported no jdk.VirtualThreadPinned event; prints the first
+     * pinned stack otherwise. Also reports how many carrier threads ran the callers.
+     */
+    private boolean runVirtual(int callers, long end) throws InterruptedException {
+        Set<String> carriers = ConcurrentHashMap.newKeySet();
+        AtomicInteger peak = new AtomicInteger();
+        LongAdder pinned = new LongAdder();
+        AtomicReference<String> firstPin = new AtomicReference<>();
+        RecordingStream jfr = new RecordingStream();
+        jfr.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+        jfr.onEvent("jdk.VirtualThreadPinned", e -> {
+            pinned.increment();
+            if (e.getStackTrace() != null) firstPin.compareAndSet(null, e.getStackTrace().getFrames().stream().limit(8)
+                    .map(f -> f.getMethod().getType().getName() + "." + f.getMethod().getName()).toList().toString());
+        });
+        AtomicReference<CountDownLatch> flushes = new AtomicReference<>(new CountDownLatch(0));
+        jfr.onFlush(() -> flushes.get().countDown());
+        jfr.startAsync();
+        ExecutorService vt = HttpClientFactory.virtualThreadExecutor();
+        for (int i = 0; i < callers; i++) {
+            vt.execute(() -> {
+                long now;
+                while ((now = System.nanoTime()) - end < 0) {
+                    Op op = pick();
+                    peak.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    Throwable err = null;
+                    try {
+                        invokeBlocking(op);
+                    } catch (Exception e) {
+                        err = e;
+                    } finally {
+                        inFlight.decrementAndGet();
+                    }
+                    record(op, now, err);
+                    // A virtual thread prints as VirtualThread[#id]/runnable@<carrier thread name>
+                    String self = Thread.currentThread().toString();
+                    int at = self.indexOf('@');
+                    if (at >= 0) carriers.add(self.substring(at + 1));
+                }
+            });
+        }
+        vt.shutdown();
+        vt.awaitTermination(1, TimeUnit.HOURS);
+        // Events reach onEvent at the next flush (about once a second); wait for two so none is lost.
+        CountDownLatch drained = new CountDownLatch(2);
+        flushes.set(drained);
+        drained.await(5, TimeUnit.SECONDS);
+        jfr.close();
+        boolean passed = peak.get() >= callers && pinned.sum() == 0;
+        out.printf("Virtual callers: %d, peak in flight %d, carrier threads seen %d, pinned parks %d: %s%n",
+                callers, peak.get(), carriers.size(), pinned.sum(), passed ? "PASS" : "FAIL");
+        if (firstPin.get() != null) out.println("First pinned at " + firstPin.get());
+        return passed;
+    }
+
+    private void invokeBlocking(Op op) throws Exception {
+        switch (op) {
+            case LIST_DEVICES -> client.devices().listAll();
+            case GET_BY_ID -> client.devices().getById(randomDevice().id);
+            case GET_BY_SERIAL -> client.devices().getBySerial(randomDevice().serialNumber);
+            case COUNTS -> client.devices().count();
+            case SITES -> client.sites().list();
+            case COMMAND_RUNNER -> Futures.await(commandRunner());
+        }
+    }
+
+    /** Open loop: calls start on a fixed schedule whether or not earlier ones finished. */
+    private void runAtRate(double rate, long end) throws InterruptedException {
+        if (rate <= 0) throw new IllegalArgumentException("--rate must be positive");
+        int maxInFlight = Integer.parseInt(args.getOrDefault("max-in-flight", "10000"));
+        long interval = (long) (1e9 / rate);
+        long next = System.nanoTime();
+        while (next - end < 0) {
+            long wait = next - System.nanoTime();
+            if (wait > 0) LockSupport.parkNanos(wait);
+            if (Thread.interrupted()) throw new InterruptedException();
+            if (inFlight.get() >= maxInFlight) dropped.increment();
+            else issue(pick(), next);
+            next += interval;
+        }
+        long drainUntil = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+        while (inFlight.get() > 0 && System.nanoTime() - drainUntil < 0) Thread.sleep(10);
+    }
+
+    private Op pick() { return mix[ThreadLocalRandom.current().nextInt(mix.length)]; }
+
+    private CompletableFuture<?> issue(Op op, long startNanos) {
+        inFlight.incrementAndGet();
+        CompletableFuture<?> call;
+        try {
+            call = invoke(op);
+        } catch (RuntimeException e) {
+            call = CompletableFuture.failedFuture(e);
+        }
+        return call.whenComplete((v, e) -> {
+            inFlight.decrementAndGet();
+            record(op, startNanos, e);
+        });
+    }
+
+    private void record(Op op, long startNanos, Throwable e) {
+        if (startNanos - measureFrom < 0) return;
+        OpStats s = stats.get(op);
+        s.latency.recordNanos(System.nanoTime() - startNanos);
+        if (e == null) {
+            s.ok.increment();
+        } else {
+            s.failed.increment();
+            s.errors.computeIfAbsent(errorKey(Futures.unwrap(e)), k -> new LongAdder()).increment();
+        }
+    }
+
+    private CompletableFuture<?> invoke(Op op) {
+        return switch (op) {
+            case LIST_DEVICES -> client.devices().listAllAsync();
+            case GET_BY_ID -> client.devices().getByIdAsync(randomDevice().id);
+            case GET_BY_SERIAL -> client.devices().getBySerialAsync(randomDevice().serialNumber);
+            case COUNTS -> client.devices().countAsync();
+            case SITES -> client.sites().listAsync();
+            case COMMAND_RUNNER -> commandRunner();
+        };
+    }
+
+    /** One read-request over a random sample of devices, through task polling to the parsed file. */
+    private CompletableFuture<Long> commandRunner() {
+        int n = Math.min(inventory.size(), Integer.parseInt(args.getOrDefault("cr-devices", "10")));
+        Set<String> ids = new LinkedHashSet<>();
+        while (ids.size() < n) ids.add(randomDevice().id);
+        Duration timeout = duration(args.getOrDefault("cr-timeout", "120s"));
+        var cr = client.commandRunner();
+        return cr.submitAsync(List.copyOf(ids), List.of("show version"), 0)
+                .thenCompose(taskId -> cr.waitForFileIdAsync(taskId, timeout, Duration.ofSeconds(1)))
+                .thenCompose(fileId -> cr.readOutputsAsync(fileId, d -> {}));
+    }
+
+    private Device randomDevice() { return inventory.get(ThreadLocalRandom.current().nextInt(inventory.size())); }
+
+    private static String errorKey(Throwable t) {
+        String name = t.getClass().getSimpleName();
+        return t instanceof DnacHttpStatusException h ? name + " (" + h.statusCode() + ")" : name;
+    }
+
+    // --- reporting ---
+
+    private void progress(long start) {
+        long ok = 0, failed = 0;
+        for (OpStats s : stats.values()) {
+            ok += s.ok.sum();
+            failed += s.failed.sum();
+        }
+        out.printf("  t=%ds ok=%d errors=%d in-flight=%d%n",
+                TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start), ok, failed, inFlight.get());
+    }
+
+    private void report(long elapsedNanos) {
+        double secs = elapsedNanos / 1e9;
+        out.printf("%n%-15s %9s %9s %7s %9s %9s %9s %9s%n", "op", "calls", "ok/s", "errors", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        long calls = 0, ok = 0, failed = 0;
+        for (Map.Entry<Op, OpStats> e : stats.entrySet()) {
+            OpStats s = e.getValue();
+            LatencyHistogram h = s.latency;
+            out.printf("%-15s %9d %9.1f %7d %9.2f %9.2f %9.2f %9.2f%n", e.getKey().label, h.count(), s.ok.sum() / secs,
+                    s.failed.sum(), ms(h.quantileSeconds(0.50)), ms(h.quantileSeconds(0.95)),
+                    ms(h.quantileSeconds(0.99)), ms(h.maxSeconds()));
+            calls += h.count();
+            ok += s.ok.sum();
+            failed += s.failed.sum();
+        }
+        out.printf("%-15s %9d %9.1f %7d%n", "total", calls, ok / secs, failed);
+
+        if (failed > 0) {
+            out.println("\nErrors:");
+            stats.forEach((op, s) -> s.errors.forEach((k, v) -> out.printf("  %-15s %-45s %d%n", op.label, k, v.sum())));
+        }
+        StringBuilder r = new StringBuilder();
+        new TreeMap<>(retries.retries).forEach((k, v) -> r.append(' ').append(k).append('=').append(v.sum()));
+        out.printf("%nRetries:%s (HTTP attempts %d, including warm-up and setup)%n",
+                r.length() == 0 ? " none" : r, retries.attempts.sum());
+        if (!retries.suppressed.isEmpty()) {
+            StringBuilder sup = new StringBuilder();
+            new TreeMap<>(retries.suppressed).forEach((k, v) -> sup.append(' ').append(k).append('=').append(v.sum()));
+            out.printf("Suppressed by the retry budget:%s%n", sup);
+        }
+        if (dropped.sum() > 0) out.printf("Dropped: %d calls not issued because --max-in-flight was reached%n", dropped.sum());
+    }
+
+    private static double ms(double seconds) { return seconds * 1000; }
+
+    // --- arguments ---
+
+    private static Map<String, String> parse(String[] argv) {
+        Map<String, String> m = new HashMap<>();
+        for (int i = 0; i < argv.length; i++) {
+            String a = argv[i];
+            if (!a.startsWith("--")) throw new IllegalArgumentException("Unexpected argument: " + a);
+            String key = a.substring(2);
+            String value = i + 1 < argv.length && !argv[i + 1].startsWith("--") ? argv[++i] : "";
+            m.put(key, value);
+        }
+        if (Stream.of("rate", "concurrency", "virtual-callers").filter(m::containsKey).count() > 1) {
+            throw new IllegalArgumentException("Use only one of --rate, --concurrency and --virtual-callers");
+        }
+        if ((m.containsKey("virtual-callers") || m.containsKey("virtual-threads")) && Runtime.version().feature() < 21) {
+            throw new IllegalArgumentException("Virtual threads need JDK 21+, running on " + Runtime.version());
+        }
+        return m;
+    }
+
+    private static SimulatorOptions simOptions(Map<String, String> args) {
+        String devices = args.get("sim");
+        SimulatorOptions o = SimulatorOptions.defaults()
+                .withInventory(devices.isEmpty() ? 1000 : Integer.parseInt(devices), 50)
+                .with429(Double.parseDouble(args.getOrDefault("sim-429", "0")), 1)
+                .with5xx(Double.parseDouble(args.getOrDefault("sim-5xx", "0")))
+                .withCommandRunner(duration(args.getOrDefault("sim-task", "2s")), 0);
+        String latency = args.get("sim-latency");
+        if (latency != null) {
+            String[] p = latency.split(":");
+            o = o.withLatency(new SimulatorOptions.Latency(duration(p[0]), duration(p.length > 1 ? p[1] : p[0])));
+        }
+        return o;
+    }
+
+    // "" for the defaults, or RATIO[:MIN_PER_SECOND[:WINDOW]], e.g. 0.2:10:30s
+    private static RetryLimits retryLimits(String spec) {
+        if (spec.isEmpty()) return RetryLimits.dnacDefaults();
+        String[] p = spec.split(":");
+        RetryLimits d = RetryLimits.dnacDefaults();
+        return new RetryLimits(Double.parseDouble(p[0]),
+                p.length > 1 ? Integer.parseInt(p[1]) : d.minRetriesPerSecond(),
+                p.length > 2 ? duration(p[2]) : d.window());
+    }
+
+    /** Accepts 500ms, 30s, 2m, 1h or an ISO-8601 duration. */
+    static Duration duration(String s) {
+        String v = s.trim().toLowerCase(Locale.ROOT);
+        try {
+            if (v.endsWith("ms")) return Duration.ofMillis(Long.parseLong(v.substring(0, v.length() - 2)));
+            if (v.endsWith("s")) return Duration.ofSeconds(Long.parseLong(v.substring(0, v.length() - 1)));
+            if (v.endsWith("m")) return Duration.ofMinutes(Long.parseLong(v.substring(0, v.length() - 1)));
+            if (v.endsWith("h")) return Duration.ofHours(Long.parseLong(v.substring(0, v.length() - 1)));
+            return Duration.parse(s.trim());
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Bad duration: " + s);
+        }
+    }
+
+    private static void usage(PrintStream out) {
+        out.println("""
+                Usage: App --load [options]
+                  --ops op[:weight],...   listDevices, getById, getBySerial, counts, sites, command-runner
+                                          (default getById,getBySerial,counts)
+                  --rate N                open loop: start N calls per second
+                  --concurrency N         closed loop: N callers back to back (default 8)
+                  --virtual-callers N     closed loop on N virtual threads using the blocking API;
+                                          exits 1 unless all N were in flight at once with no
+                                          pinned parks (JFR); reports carrier threads (JDK 21+)
+                  --duration D            measured run length, e.g. 60s, 5m (default 30s)
+                  --warmup D              unmeasured lead-in (default 0s)
+                  --max-in-flight N       rate mode: skip a call when N are outstanding (default 10000)
+                  --cr-devices N          devices per command-runner request (default 10)
+                  --cr-timeout D          command-runner task timeout (default 120s)
+                  --http 1.1|2            HTTP version (default: HttpClient's, HTTP/2 with fallback)
+                  --gzip                  request gzip/deflate responses
+                  --threads N             bounded HttpClient executor instead of the default pool
+                  --virtual-threads       HttpClient executor on virtual threads (JDK 21+)
+                  --retry-budget [R[:MIN[:W]]]  shared retry budget: R retries per recent success,
+                                          at least MIN per second, over window W (default 0.1:5:10s)
+                  --sim [devices]         run against an in-process simulator instead of dnac.properties
+                  --sim-latency M[:P99]   simulator median and p99 latency, e.g. 20ms:250ms
+                  --sim-429 R, --sim-5xx R  simulator error injection rates (0..1)
+                  --sim-task D            simulator command-runner task duration (default 2s)""");
+    }
+
+    static boolean isLoadMode(String[] args) {
+        return args.length > 0 && args[0].equals("--load");
+    }
+}
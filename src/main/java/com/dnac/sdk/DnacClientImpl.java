@@ -3,20 +3,35 @@ package com.dnac.sdk;
 
 import com.dnac.sdk.api.*;
 import com.dnac.sdk.auth.*;
+import com.dnac.sdk.cache.ResponseCache;
 import com.dnac.sdk.config.DnacConfig;
 import com.dnac.sdk.config.HttpClientFactory;
+import com.dnac.sdk.http.CallOptions;
+import com.dnac.sdk.http.Compression;
+import com.dnac.sdk.http.Futures;
 import com.dnac.sdk.http.HttpExecutor;
+import com.dnac.sdk.http.RequestCoalescer;
 import com.dnac.sdk.http.JsonSupport;
+import com.dnac.sdk.limits.ConcurrencyLimiter;
+import com.dnac.sdk.limits.RateLimiter;
+import com.dnac.sdk.limits.RetryBudget;
 
 import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
 
 public final class DnacClientImpl implements DnacClient {
     private final DnacConfig cfg;
     private final HttpClient http;
     private final JsonSupport json;
-    private final TokenProvider tokenProvider;
+    private final RateLimiter rateLimiter;
+    private final CachingTokenProvider tokenProvider;
     private final HttpExecutor httpExec;
+    private final TaskTracker tasks;
+    private final AtomicReference<CompletableFuture<Void>> warmUp = new AtomicReference<>();
 
     private final DevicesApi devices;
     private final SitesApi sites;
@@ -28,18 +43,21 @@ public final class DnacClientImpl implements DnacClient {
     public DnacClientImpl(DnacConfig cfg) throws Exception {
         this.cfg = cfg;
         this.http = HttpClientFactory.create(cfg);
-        this.json = new JsonSupport();
+        this.json = new JsonSupport(); // the one codec registry; every component below shares it
 
-        TokenProvider base = new BasicAuthTokenProvider(cfg, http, json);
-        TokenProvider cached = new CachingTokenProvider(base, Duration.ofMinutes(55));
-        this.tokenProvider = cached;
+        // One limiter for the whole client so auth and API calls draw from the same buckets
+        this.rateLimiter = cfg.rateLimits() == null ? null : new RateLimiter(cfg.rateLimits());
 
-        this.httpExec = new HttpExecutor(cfg, http, tokenProvider, json);
+        TokenProvider base = new BasicAuthTokenProvider(cfg, http, json, rateLimiter);
+        this.tokenProvider = new CachingTokenProvider(base, Duration.ofMinutes(55));
+
+        this.httpExec = new HttpExecutor(cfg, http, tokenProvider, json, rateLimiter);
 
         this.devices       = new DevicesApi(cfg, httpExec);
         this.sites         = new SitesApi(cfg, httpExec);
-        this.templates     = new TemplatesApi(cfg, httpExec);
-        this.commandRunner = new CommandRunnerApi(cfg, httpExec);
+        this.templates     = new TemplatesApi(cfg, httpExec, json);
+        this.tasks         = new TaskTracker(cfg, httpExec, json);
+        this.commandRunner = new CommandRunnerApi(cfg, httpExec, json, tasks);
         this.auth          = new AuthApi(tokenProvider);
         this.misc          = new MiscApi(cfg, httpExec, json);
     }
@@ -50,4 +68,67 @@ public final class DnacClientImpl implements DnacClient {
     public CommandRunnerApi commandRunner() { return commandRunner; }
     public AuthApi auth() { return auth; }
     public MiscApi misc() { return misc; }
+
+    /**
+     * Opens the connection to the controller (DNS, TCP, TLS and, for HTTP/2, ALPN) and fetches the
+     * first token at the same time, so the first real call pays for neither. Idempotent: later
+     * calls return the same readiness future. It fails if the token fetch fails or the controller
+     * is unreachable; any HTTP status on the connection probe counts as connected.
+     */
+    public CompletableFuture<Void> warmUp() {
+        CompletableFuture<Void> running = warmUp.get();
+        if (running != null) return running.copy();
+        CompletableFuture<Void> mine = new CompletableFuture<>();
+        if (!warmUp.compareAndSet(null, mine)) return warmUp.get().copy();
+
+        HttpRequest probe = HttpRequest.newBuilder(cfg.baseUri().resolve("/"))
+                .method("HEAD", HttpRequest.BodyPublishers.noBody())
+                .timeout(cfg.connectTimeout())
+                .build();
+        CompletableFuture<?> connected = http.sendAsync(probe, HttpResponse.BodyHandlers.discarding());
+        CompletableFuture<String> token = tokenProvider.getTokenAsync();
+        CompletableFuture.allOf(connected, token).whenComplete((v, err) -> {
+            if (err == null) mine.complete(null);
+            else mine.completeExceptionally(Futures.unwrap(err));
+        });
+        return mine.copy();
+    }
+
+    /**
+     * A view of this client whose API calls run under {@code options} (e.g. a deadline shared by
+     * everything one inbound request does). It shares this client's connection, token, limiters
+     * and cache; closing it does nothing. Task polling keeps its own wait limits.
+     */
+    public DnacClient withCallOptions(CallOptions options) {
+        HttpExecutor scoped = httpExec.withOptions(options);
+        return new Scoped(new DevicesApi(cfg, scoped), new SitesApi(cfg, scoped), new TemplatesApi(cfg, scoped, json),
+                new CommandRunnerApi(cfg, scoped, json, tasks), auth, new MiscApi(cfg, scoped, json));
+    }
+
+    private record Scoped(DevicesApi devices, SitesApi sites, TemplatesApi templates, CommandRunnerApi commandRunner,
+                          AuthApi auth, MiscApi misc) implements DnacClient {}
+
+    /** Stops the task poller's scheduler thread and the token refresh timer. */
+    @Override public void close() {
+        tasks.close();
+        tokenProvider.close();
+    }
+
+    /** The shared rate limiter, or null when DnacConfig has no rate limits. */
+    public RateLimiter rateLimiter() { return rateLimiter; }
+
+    /** The adaptive in-flight limiter, or null when DnacConfig has no concurrency limits. */
+    public ConcurrencyLimiter concurrencyLimiter() { return httpExec.concurrencyLimiter(); }
+
+    /** The shared retry budget and its suppressed-retry counters, or null when DnacConfig has none. */
+    public RetryBudget retryBudget() { return httpExec.retryBudget(); }
+
+    /** The GET response cache, or null when DnacConfig has no cache policy. */
+    public ResponseCache responseCache() { return httpExec.responseCache(); }
+
+    /** Compressed vs inflated response bytes, or null when DnacConfig has compression off. */
+    public Compression compression() { return httpExec.compression(); }
+
+    /** Single-flight counters, or null when DnacConfig has coalescing off. */
+    public RequestCoalescer requestCoalescer() { return httpExec.requestCoalescer(); }
 }
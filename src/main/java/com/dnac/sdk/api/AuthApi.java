@@ -3,6 +3,8 @@ package com.dnac.sdk.api;
 
 import com.dnac.sdk.auth.TokenProvider;
 
+import java.util.concurrent.CompletableFuture;
+
 public final class AuthApi {
     private final TokenProvider tokens;
 
@@ -12,4 +14,8 @@ public final class AuthApi {
     public String getToken() throws Exception {
         return tokens.getToken();
     }
+
+    public CompletableFuture<String> getTokenAsync() {
+        return tokens.getTokenAsync();
+    }
 }
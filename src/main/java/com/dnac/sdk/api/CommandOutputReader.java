@@ -0,0 +1,138 @@
+// com/dnac/sdk/api/CommandOutputReader.java
+package com.dnac.sdk.api;
+
+import com.dnac.sdk.http.JsonSupport;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Walks a Command Runner result file ({@code [{"deviceUuid":..,"commandResponses":{"SUCCESS":{..},
+ * "FAILURE":{..},"BLACKLISTED":{..}}}, ...]}) token by token and hands each device to the sink as
+ * soon as its object closes, so only one device is materialized at a time.
+ * <p>
+ * With {@link #spillingTo(Path, int)}, SUCCESS outputs longer than the threshold are written to
+ * a file in that directory instead of being kept as Strings; the caller owns those files. Spilling
+ * bounds what is retained, not the peak: Jackson decodes one string value whole into its text
+ * buffer before anything can read it, so the largest single output is briefly in memory as chars
+ * (no extra String copy is made, and the buffer is reused for the next value).
+ */
+public final class CommandOutputReader {
+    private final JsonFactory factory;
+    private final Path spillDir;        // null = never spill
+    private final int spillThreshold;   // in chars
+
+    public CommandOutputReader(JsonSupport json) {
+        this(json.mapper().getFactory(), null, Integer.MAX_VALUE);
+    }
+
+    private CommandOutputReader(JsonFactory factory, Path spillDir, int spillThreshold) {
+        this.factory = factory; this.spillDir = spillDir; this.spillThreshold = spillThreshold;
+    }
+
+    /** Outputs over {@code thresholdChars} go to files in {@code dir} once decoded; see the class doc for the peak. */
+    public CommandOutputReader spillingTo(Path dir, int thresholdChars) {
+        return new CommandOutputReader(factory, Objects.requireNonNull(dir), Math.max(0, thresholdChars));
+    }
+
+    /** Reads every device entry from {@code in} (closed afterwards); returns how many were emitted. */
+    public long read(InputStream in, Consumer<DeviceOutput> sink) throws IOException {
+        try (in; JsonParser p = factory.createParser(in)) {
+            if (p.nextToken() != JsonToken.START_ARRAY) {
+                throw new JsonParseException(p, "Expected a JSON array of device results");
+            }
+            long n = 0;
+            JsonToken t;
+            while ((t = p.nextToken()) == JsonToken.START_OBJECT) {
+                sink.accept(readDevice(p));
+                n++;
+            }
+            if (t != JsonToken.END_ARRAY) throw new JsonParseException(p, "Unexpected token " + t + " in result array");
+            return n;
+        }
+    }
+
+    public long read(Path file, Consumer<DeviceOutput> sink) throws IOException {
+        return read(Files.newInputStream(file), sink);
+    }
+
+    private DeviceOutput readDevice(JsonParser p) throws IOException {
+        String uuid = null;
+        Map<String, String> success = Map.of(), failure = Map.of(), blacklisted = Map.of();
+        Map<String, Path> spilled = new LinkedHashMap<>();
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            JsonToken v = p.nextToken();
+            if (field.equals("deviceUuid")) {
+                uuid = p.getValueAsString();
+            } else if (field.equals("commandResponses") && v == JsonToken.START_OBJECT) {
+                while (p.nextToken() == JsonToken.FIELD_NAME) {
+                    String kind = p.currentName();
+                    p.nextToken();
+                    switch (kind) {
+                        case "SUCCESS" -> success = readOutputs(p, spilled);
+                        case "FAILURE" -> failure = readOutputs(p, null);
+                        case "BLACKLISTED" -> blacklisted = readOutputs(p, null);
+                        default -> p.skipChildren();
+                    }
+                }
+            } else {
+                p.skipChildren();
+            }
+        }
+        return new DeviceOutput(uuid, success, failure, blacklisted,
+                spilled.isEmpty() ? Map.of() : Collections.unmodifiableMap(spilled));
+    }
+
+    // Object of command -> output. Strings are the norm; arrays (paged output) are joined like the
+    // original helper did, anything else is kept as its JSON text.
+    private Map<String, String> readOutputs(JsonParser p, Map<String, Path> spilled) throws IOException {
+        if (p.currentToken() != JsonToken.START_OBJECT) {
+            p.skipChildren();
+            return Map.of();
+        }
+        Map<String, String> out = new LinkedHashMap<>();
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String command = p.currentName();
+            JsonToken v = p.nextToken();
+            if (v == JsonToken.VALUE_STRING) {
+                // getTextLength() (like getText(Writer)) has the parser finish the whole value first
+                if (spilled != null && spillDir != null && p.getTextLength() > spillThreshold) {
+                    spilled.put(command, spill(p));
+                } else {
+                    out.put(command, p.getText());
+                }
+            } else if (v == JsonToken.START_ARRAY) {
+                StringJoiner joined = new StringJoiner("\n\n");
+                while (p.nextToken() != JsonToken.END_ARRAY) {
+                    if (p.currentToken().isScalarValue()) joined.add(p.getText());
+                    else p.skipChildren();
+                }
+                out.put(command, joined.toString());
+            } else if (v == JsonToken.VALUE_NULL) {
+                out.put(command, "");
+            } else {
+                out.put(command, p.readValueAsTree().toString());
+            }
+        }
+        return out;
+    }
+
+    private Path spill(JsonParser p) throws IOException {
+        Path file = Files.createTempFile(spillDir, "cmd-", ".out");
+        try (Writer w = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            p.getText(w);
+        }
+        return file;
+    }
+}
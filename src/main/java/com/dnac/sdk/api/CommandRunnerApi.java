@@ -2,58 +2,88 @@
 package com.dnac.sdk.api;
 
 import com.dnac.sdk.config.DnacConfig;
+import com.dnac.sdk.http.Futures;
 import com.dnac.sdk.http.HttpExecutor;
 import com.dnac.sdk.http.JsonSupport;
 import com.dnac.sdk.model.command.*;
-import com.dnac.sdk.model.common.TaskEnvelope;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.type.TypeReference;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.time.Duration;
-import java.time.Instant;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import static com.dnac.sdk.http.Futures.unchecked;
+
+public final class CommandRunnerApi implements AutoCloseable {
+    private static final TypeReference<List<CommandRunnerOutput>> OUTPUT_LIST = new TypeReference<>() {};
 
-public final class CommandRunnerApi {
     private final HttpExecutor http;
-    private final JsonSupport json = new JsonSupport();
+    private final TaskTracker tasks;
+    private final boolean ownsTasks;
+    private final CommandOutputReader outputs;
 
-    public CommandRunnerApi(DnacConfig cfg, HttpExecutor http) { this.http = http; }
+    /** Starts its own TaskTracker; {@link #close()} stops it. */
+    public CommandRunnerApi(DnacConfig cfg, HttpExecutor http, JsonSupport json) {
+        this(http, json, new TaskTracker(cfg, http, json), true);
+    }
 
-    public String submit(List<String> deviceUuids, List<String> commands, int timeoutSec) throws Exception {
-        CommandRunnerRequest req = new CommandRunnerRequest();
-        req.deviceUuids = deviceUuids;
-        req.commands = commands;
-        req.timeout = timeoutSec;
+    /** Uses a tracker owned by the caller (e.g. shared across a client); close() leaves it running. */
+    public CommandRunnerApi(DnacConfig cfg, HttpExecutor http, JsonSupport json, TaskTracker tasks) {
+        this(http, json, tasks, false);
+    }
 
-        String body = http.postJson("/dna/intent/api/v1/network-device-poller/cli/read-request", req);
-        CommandRunnerSubmitResponse cr = json.read(body, CommandRunnerSubmitResponse.class);
-        if (cr.response == null || cr.response.taskId == null || cr.response.taskId.isBlank())
-            throw new IllegalStateException("Missing taskId");
-        return cr.response.taskId;
+    private CommandRunnerApi(HttpExecutor http, JsonSupport json, TaskTracker tasks, boolean ownsTasks) {
+        this.http = http; this.tasks = tasks; this.ownsTasks = ownsTasks;
+        this.outputs = new CommandOutputReader(json);
+    }
+
+    /** Stops the task poller's scheduler thread if this instance started it. */
+    @Override public void close() {
+        if (ownsTasks) tasks.close();
+    }
+
+    /** The shared poller behind waitForFileId; use it to watch other tasks too. */
+    public TaskTracker tasks() { return tasks; }
+
+    public String submit(List<String> deviceUuids, List<String> commands, int timeoutSec) throws Exception {
+        return taskId(http.postJson("/dna/intent/api/v1/network-device-poller/cli/read-request",
+                readRequest(deviceUuids, commands, timeoutSec), CommandRunnerSubmitResponse.class));
     }
 
     public String getTask(String taskId) throws Exception {
-        return http.get("/dna/intent/api/v1/task/" + urlEnc(taskId), null);
+        return http.get(taskPath(taskId), null);
     }
 
+    /** {@code pollInterval} is the first interval; the tracker backs off from there while the task is idle. */
     public String waitForFileId(String taskId, Duration maxWait, Duration pollInterval) throws Exception {
-        Instant deadline = Instant.now().plus(maxWait);
-        while (Instant.now().isBefore(deadline)) {
-            TaskEnvelope env = json.read(getTask(taskId), TaskEnvelope.class);
-            if (env.response != null && env.response.progress != null) {
-                try {
-                    JsonNode p = json.mapper().readTree(env.response.progress);
-                    JsonNode file = p.get("fileId");
-                    if (file != null && !file.asText().isBlank()) return file.asText();
-                } catch (Exception ignore) {}
-            }
-            Thread.sleep(pollInterval.toMillis());
-        }
-        throw new RuntimeException("Timed out waiting for fileId in task " + taskId);
+        return Futures.await(tasks.fileId(taskId, maxWait, pollInterval));
     }
 
     public String getFile(String fileId) throws Exception {
-        return http.get("/dna/intent/api/v1/file/" + urlEnc(fileId), null);
+        return http.get(filePath(fileId), null);
+    }
+
+    /** The result file decoded into one entry per device. */
+    public List<CommandRunnerOutput> getOutputs(String fileId) throws Exception {
+        return http.get(filePath(fileId), null, OUTPUT_LIST);
+    }
+
+    /** Streams the result file one device at a time; nothing but the current device is held in memory. */
+    public long readOutputs(String fileId, Consumer<DeviceOutput> sink) throws Exception {
+        return outputs.read(http.getStream(filePath(fileId), null), sink);
+    }
+
+    /** Writes the raw result file to {@code target} so it can be parsed (or re-parsed) from disk. */
+    public CompletableFuture<Path> downloadFileAsync(String fileId, Path target) {
+        return http.downloadAsync(filePath(fileId), null, target);
     }
 
     /** Convenience matching your original helper */
@@ -64,26 +94,102 @@ public final class CommandRunnerApi {
 
         String taskId = submit(ids, List.of("show version", "show ip int brief"), 0);
         String fileId = waitForFileId(taskId, Duration.ofSeconds(60), Duration.ofSeconds(2));
-        String raw = getFile(fileId);
-
-        JsonNode arr = json.mapper().readTree(raw);
-        if (!arr.isArray() || arr.size() == 0) return Optional.empty();
-        JsonNode success = arr.get(0).path("commandResponses").path("SUCCESS");
-        JsonNode showIp = success.get("show ip int brief");
-        if (showIp == null || showIp.isNull()) return Optional.empty();
-        if (showIp.isTextual()) return Optional.of(showIp.asText());
-        if (showIp.isArray()) {
-            String joined = new StringBuilder()
-                    .append(String.join("\n\n",
-                            java.util.stream.StreamSupport.stream(showIp.spliterator(), false)
-                                    .map(JsonNode::asText).toList()))
-                    .toString();
-            return Optional.of(joined);
+        return showIpIntBriefByDevice(fileId).values().stream().findFirst();
+    }
+
+    /** Like runShowIpIntBriefOnPlatform, but keeps every device's output (deviceUuid to output). */
+    public Map<String, String> runShowIpIntBriefByDevice(String platformId, DevicesApi devicesApi) throws Exception {
+        var ids = devicesApi.idsByPlatformId(platformId);
+        if (ids.isEmpty()) return Map.of();
+
+        String taskId = submit(ids, List.of("show version", "show ip int brief"), 0);
+        return showIpIntBriefByDevice(waitForFileId(taskId, Duration.ofSeconds(60), Duration.ofSeconds(2)));
+    }
+
+    // --- Async variants ---
+
+    public CompletableFuture<String> submitAsync(List<String> deviceUuids, List<String> commands, int timeoutSec) {
+        return Futures.thenApply(http.postJsonAsync("/dna/intent/api/v1/network-device-poller/cli/read-request",
+                readRequest(deviceUuids, commands, timeoutSec), CommandRunnerSubmitResponse.class), this::taskId);
+    }
+
+    public CompletableFuture<String> getTaskAsync(String taskId) {
+        return http.getAsync(taskPath(taskId), null);
+    }
+
+    /** Resolves through the shared {@link TaskTracker}; no thread waits per task. */
+    public CompletableFuture<String> waitForFileIdAsync(String taskId, Duration maxWait, Duration pollInterval) {
+        return tasks.fileId(taskId, maxWait, pollInterval);
+    }
+
+    public CompletableFuture<String> getFileAsync(String fileId) {
+        return http.getAsync(filePath(fileId), null);
+    }
+
+    public CompletableFuture<List<CommandRunnerOutput>> getOutputsAsync(String fileId) {
+        return http.getAsync(filePath(fileId), null, OUTPUT_LIST);
+    }
+
+    /** Buffers the file's bytes without blocking, then walks them with the same streaming reader. */
+    public CompletableFuture<Long> readOutputsAsync(String fileId, Consumer<DeviceOutput> sink) {
+        return Futures.thenApply(http.getBytesAsync(filePath(fileId), null),
+                unchecked(bytes -> outputs.read(new ByteArrayInputStream(bytes), sink)));
+    }
+
+    /** The reader behind readOutputs; call {@code spillingTo(...)} on it for large outputs. */
+    public CommandOutputReader outputReader() { return outputs; }
+
+    public CompletableFuture<Optional<String>> runShowIpIntBriefOnPlatformAsync(String platformId, DevicesApi devicesApi) {
+        return devicesApi.idsByPlatformIdAsync(platformId).thenCompose(ids -> {
+            if (ids.isEmpty()) return CompletableFuture.completedFuture(Optional.<String>empty());
+            return submitAsync(ids, List.of("show version", "show ip int brief"), 0)
+                    .thenCompose(taskId -> waitForFileIdAsync(taskId, Duration.ofSeconds(60), Duration.ofSeconds(2)))
+                    .thenCompose(fileId -> {
+                        Map<String, String> byDevice = new LinkedHashMap<>();
+                        return readOutputsAsync(fileId, d -> collectShowIpIntBrief(d, byDevice))
+                                .thenApply(n -> byDevice.values().stream().findFirst());
+                    });
+        });
+    }
+
+    private static CommandRunnerRequest readRequest(List<String> deviceUuids, List<String> commands, int timeoutSec) {
+        CommandRunnerRequest req = new CommandRunnerRequest();
+        req.deviceUuids = deviceUuids;
+        req.commands = commands;
+        req.timeout = timeoutSec;
+        return req;
+    }
+
+    static String taskPath(String taskId) {
+        return "/dna/intent/api/v1/task/" + urlEnc(taskId);
+    }
+
+    private static String filePath(String fileId) {
+        return "/dna/intent/api/v1/file/" + urlEnc(fileId);
+    }
+
+    private String taskId(CommandRunnerSubmitResponse cr) {
+        if (cr.response == null || cr.response.taskId == null || cr.response.taskId.isBlank())
+            throw new IllegalStateException("Missing taskId");
+        return cr.response.taskId;
+    }
+
+    private Map<String, String> showIpIntBriefByDevice(String fileId) throws Exception {
+        Map<String, String> byDevice = new LinkedHashMap<>();
+        readOutputs(fileId, d -> collectShowIpIntBrief(d, byDevice));
+        return byDevice;
+    }
+
+    private static void collectShowIpIntBrief(DeviceOutput d, Map<String, String> into) {
+        if (d.deviceUuid() == null || !d.hasOutput("show ip int brief")) return;
+        try {
+            into.put(d.deviceUuid(), d.output("show ip int brief"));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
-        return Optional.of(showIp.toString());
     }
 
     private static String urlEnc(String s) {
         return java.net.URLEncoder.encode(s, java.nio.charset.StandardCharsets.UTF_8);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,29 @@
+// com/dnac/sdk/api/DeviceOutput.java
+package com.dnac.sdk.api;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * One device's entry in a Command Runner result file. {@code success}, {@code failure} and
+ * {@code blacklisted} map command text to output or error text. Outputs larger than the reader's
+ * spill threshold are not kept in memory once read: they are in {@code spilled}, one file per command.
+ */
+public record DeviceOutput(String deviceUuid, Map<String, String> success, Map<String, String> failure,
+                           Map<String, String> blacklisted, Map<String, Path> spilled) {
+
+    /** The command's output, read back from disk when it was spilled; null if the command did not succeed. */
+    public String output(String command) throws IOException {
+        String s = success.get(command);
+        if (s != null) return s;
+        Path p = spilled.get(command);
+        return p == null ? null : Files.readString(p, StandardCharsets.UTF_8);
+    }
+
+    public boolean hasOutput(String command) {
+        return success.containsKey(command) || spilled.containsKey(command);
+    }
+}
@@ -2,54 +2,103 @@
 package com.dnac.sdk.api;
 
 import com.dnac.sdk.config.DnacConfig;
+import com.dnac.sdk.http.Futures;
 import com.dnac.sdk.http.HttpExecutor;
-import com.dnac.sdk.http.JsonSupport;
 import com.dnac.sdk.model.common.CountResponse;
 import com.dnac.sdk.model.device.*;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public final class DevicesApi {
     private final DnacConfig cfg;
     private final HttpExecutor http;
-    private final JsonSupport json = new JsonSupport();
 
     public DevicesApi(DnacConfig cfg, HttpExecutor http) {
         this.cfg = cfg; this.http = http;
     }
 
+    /** Every device, fetched as concurrent offset/limit pages sized from count(). */
     public List<Device> listAll() throws Exception {
-        String body = http.get("/dna/intent/api/v1/network-device", null);
-        NetworkDeviceResponse resp = json.read(body, NetworkDeviceResponse.class);
-        return resp.response == null ? List.of() : resp.response;
+        try (Stream<Device> s = stream(PageOptions.defaults())) {
+            return s.collect(Collectors.toList());
+        }
+    }
+
+    /** Lazy, paged view of the inventory; close the stream to cancel pages still in flight. */
+    public Stream<Device> stream(PageOptions opts) throws Exception {
+        return listing(count(), opts).stream();
+    }
+
+    public Iterator<Device> iterator(PageOptions opts) throws Exception {
+        return listing(count(), opts).iterator();
     }
 
     public Device getById(String id) throws Exception {
-        String body = http.get("/dna/intent/api/v1/network-device/" + id, null);
-        return json.read(body, DeviceResponse.class).response;
+        return http.get("/dna/intent/api/v1/network-device/" + id, null, DeviceResponse.class).response;
     }
 
     public Device getBySerial(String serial) throws Exception {
-        String body = http.get("/dna/intent/api/v1/network-device/serial-number/" + serial, null);
-        return json.read(body, DeviceResponse.class).response;
+        return http.get("/dna/intent/api/v1/network-device/serial-number/" + serial, null, DeviceResponse.class).response;
     }
 
     public int count() throws Exception {
-        String body = http.get("/dna/intent/api/v1/network-device/count", null);
-        return json.read(body, CountResponse.class).response;
+        return http.get("/dna/intent/api/v1/network-device/count", null, CountResponse.class).response;
     }
 
     public List<String> idsByPlatformId(String platformId) throws Exception {
         if (platformId == null || platformId.isBlank()) return List.of();
-        String body = http.get("/dna/intent/api/v1/network-device", Map.of("platformId", platformId));
-        NetworkDeviceResponse resp = json.read(body, NetworkDeviceResponse.class);
-        if (resp.response == null) return List.of();
-        return resp.response.stream().map(d -> d.id).filter(Objects::nonNull).collect(Collectors.toList());
+        return ids(http.get("/dna/intent/api/v1/network-device", Map.of("platformId", platformId), NetworkDeviceResponse.class));
     }
 
     /** Returns raw JSON from DNAC (task submission result). Consider modeling if you need fields. */
     public String addDeviceRaw(AddDeviceRequest req) throws Exception {
         return http.postJson("/dna/intent/api/v1/network-device", req);
     }
+
+    // --- Async variants: same calls, completed off the caller's thread ---
+
+    public CompletableFuture<List<Device>> listAllAsync() {
+        return countAsync().thenCompose(total -> listing(total, PageOptions.defaults()).toListAsync());
+    }
+
+    public CompletableFuture<Device> getByIdAsync(String id) {
+        return Futures.thenApply(http.getAsync("/dna/intent/api/v1/network-device/" + id, null, DeviceResponse.class),
+                r -> r.response);
+    }
+
+    public CompletableFuture<Device> getBySerialAsync(String serial) {
+        return Futures.thenApply(http.getAsync("/dna/intent/api/v1/network-device/serial-number/" + serial, null, DeviceResponse.class),
+                r -> r.response);
+    }
+
+    public CompletableFuture<Integer> countAsync() {
+        return Futures.thenApply(http.getAsync("/dna/intent/api/v1/network-device/count", null, CountResponse.class),
+                r -> r.response);
+    }
+
+    public CompletableFuture<List<String>> idsByPlatformIdAsync(String platformId) {
+        if (platformId == null || platformId.isBlank()) return CompletableFuture.completedFuture(List.of());
+        return Futures.thenApply(http.getAsync("/dna/intent/api/v1/network-device", Map.of("platformId", platformId), NetworkDeviceResponse.class),
+                this::ids);
+    }
+
+    public CompletableFuture<String> addDeviceRawAsync(AddDeviceRequest req) {
+        return http.postJsonAsync("/dna/intent/api/v1/network-device", req);
+    }
+
+    private PagedListing<Device> listing(int total, PageOptions opts) {
+        return new PagedListing<>(total, opts, (offset, limit) ->
+                Futures.thenApply(http.getAsync("/dna/intent/api/v1/network-device",
+                                Map.of("offset", String.valueOf(offset), "limit", String.valueOf(limit)),
+                                NetworkDeviceResponse.class),
+                        resp -> resp.response == null ? List.<Device>of() : resp.response));
+    }
+
+    private List<String> ids(NetworkDeviceResponse resp) {
+        if (resp.response == null) return List.of();
+        return resp.response.stream().map(d -> d.id).filter(Objects::nonNull).collect(Collectors.toList());
+    }
 }
@@ -7,6 +7,7 @@ import com.dnac.sdk.http.JsonSupport;
 import com.dnac.sdk.model.common.CountResponse;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public final class MiscApi {
     private final DnacConfig cfg;
@@ -22,7 +23,14 @@ public final class MiscApi {
     }
 
     public CountResponse getCount(String rootedPath) throws Exception {
-        String body = http.get(rootedPath, Map.of());
-        return json.read(body, CountResponse.class);
+        return http.get(rootedPath, Map.of(), CountResponse.class);
+    }
+
+    public CompletableFuture<String> getRawAsync(String rootedPath) {
+        return http.getAsync(rootedPath, null);
+    }
+
+    public CompletableFuture<CountResponse> getCountAsync(String rootedPath) {
+        return http.getAsync(rootedPath, Map.of(), CountResponse.class);
     }
 }
@@ -0,0 +1,31 @@
+// com/dnac/sdk/api/PageOptions.java
+package com.dnac.sdk.api;
+
+/**
+ * Tuning for paged listings: page size, pages fetched concurrently, and pages buffered ahead.
+ * {@code pageSize} is clamped to {@link #MAX_PAGE_SIZE}, since DNAC silently returns fewer rows
+ * than a larger {@code limit} asks for and offsets computed from it would skip the rest.
+ */
+public final class PageOptions {
+    /** DNAC caps most list endpoints at 500 rows per request. */
+    public static final int MAX_PAGE_SIZE = 500;
+    private static final PageOptions DEFAULTS = new PageOptions(MAX_PAGE_SIZE, 4, 8);
+
+    private final int pageSize;      // 1..MAX_PAGE_SIZE
+    private final int parallelism;   // max page requests in flight
+    private final int prefetch;      // max pages requested ahead of the consumer (>= parallelism)
+
+    public PageOptions(int pageSize, int parallelism, int prefetch) {
+        if (pageSize < 1) throw new IllegalArgumentException("pageSize must be >= 1");
+        if (parallelism < 1) throw new IllegalArgumentException("parallelism must be >= 1");
+        this.pageSize = Math.min(pageSize, MAX_PAGE_SIZE);
+        this.parallelism = parallelism;
+        this.prefetch = Math.max(prefetch, parallelism);
+    }
+
+    public static PageOptions defaults() { return DEFAULTS; }
+
+    public int pageSize() { return pageSize; }
+    public int parallelism() { return parallelism; }
+    public int prefetch() { return prefetch; }
+}
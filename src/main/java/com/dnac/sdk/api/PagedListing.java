@@ -0,0 +1,212 @@
+// com/dnac/sdk/api/PagedListing.java
+package com.dnac.sdk.api;
+
+import com.dnac.sdk.exceptions.DnacException;
+import com.dnac.sdk.exceptions.DnacTimeoutException;
+import com.dnac.sdk.http.Futures;
+
+import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Offset/limit paging engine sized from a prior count() call. Pages are requested concurrently
+ * (bounded by {@link PageOptions#parallelism()}) and at most {@link PageOptions#prefetch()} pages
+ * ahead of the consumer, then handed out strictly in page order. If the last planned page comes
+ * back full the inventory grew since the count, so paging continues until a short page. A short
+ * page followed by a non-empty one means the endpoint capped pages below
+ * {@link PageOptions#pageSize()} and rows in between were skipped; the listing then fails with
+ * DnacException instead of returning an incomplete result.
+ */
+public final class PagedListing<T> {
+
+    @FunctionalInterface
+    public interface PageFetcher<T> {
+        /** {@code offset} is 1-based, as DNAC list endpoints expect. */
+        CompletableFuture<List<T>> fetch(int offset, int limit);
+    }
+
+    private record Page<T>(int index, CompletableFuture<List<T>> items) {}
+
+    private final PageFetcher<T> fetcher;
+    private final PageOptions opts;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ArrayDeque<Page<T>> window = new ArrayDeque<>(); // guarded by lock, in page order
+    private int plannedPages;                                      // guarded by lock
+    private int nextPage;                                          // guarded by lock
+    private int inFlight;                                          // guarded by lock
+    private Page<T> head;                                          // guarded by lock; taken, not yet consumed
+    private int shortPage = -1;                                    // guarded by lock; first consumed page under pageSize
+    private boolean closed;                                        // guarded by lock
+
+    public PagedListing(int total, PageOptions opts, PageFetcher<T> fetcher) {
+        this.fetcher = fetcher;
+        this.opts = opts;
+        // Always fetch at least one page: a zero or stale count must not hide devices.
+        this.plannedPages = Math.max(1, (total + opts.pageSize() - 1) / opts.pageSize());
+    }
+
+    /**
+     * Lazily pulls pages as the iterator advances; failures surface from hasNext()/next(). A
+     * consumer interrupted while waiting for a page closes the listing and gets DnacTimeoutException.
+     */
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private Iterator<T> current = Collections.emptyIterator();
+
+            @Override public boolean hasNext() {
+                while (!current.hasNext()) {
+                    Page<T> head = takeHead();
+                    if (head == null) return false;
+                    List<T> items;
+                    try {
+                        items = Futures.await(head.items());
+                        verify(head.index(), items);
+                    } catch (InterruptedException | CancellationException e) {
+                        // An interrupted consumer stops paging; Futures.await has cancelled the page and kept the flag set.
+                        close();
+                        throw new DnacTimeoutException(null, e instanceof InterruptedException ? "Interrupted" : "Cancelled", e);
+                    } catch (RuntimeException e) {
+                        close();
+                        throw e;
+                    } catch (Exception e) {
+                        close();
+                        throw new CompletionException(e);
+                    }
+                    onPageDone(head.index(), items);
+                    current = items.iterator();
+                }
+                return true;
+            }
+
+            @Override public T next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                return current.next();
+            }
+        };
+    }
+
+    public Stream<T> stream() {
+        Spliterator<T> split = Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(split, false).onClose(this::close);
+    }
+
+    /**
+     * Collects every page without blocking; pages still arrive with the same bounded concurrency.
+     * Cancelling the returned future closes the listing.
+     */
+    public CompletableFuture<List<T>> toListAsync() {
+        CompletableFuture<List<T>> result = new CompletableFuture<>();
+        result.whenComplete((r, e) -> {
+            if (result.isCancelled()) close();
+        });
+        drain(new ArrayList<>(), result);
+        return result;
+    }
+
+    /** Cancels pages that have been requested but not consumed. */
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            if (head != null) head.items().cancel(true);
+            for (Page<T> p : window) p.items().cancel(true);
+            window.clear();
+            head = null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void drain(List<T> acc, CompletableFuture<List<T>> result) {
+        if (result.isDone()) return;
+        Page<T> head = takeHead();
+        if (head == null) {
+            result.complete(acc);
+            return;
+        }
+        head.items().whenComplete((items, err) -> {
+            if (err != null) {
+                close();
+                result.completeExceptionally(Futures.unwrap(err));
+                return;
+            }
+            try {
+                verify(head.index(), items);
+            } catch (DnacException e) {
+                close();
+                result.completeExceptionally(e);
+                return;
+            }
+            onPageDone(head.index(), items);
+            acc.addAll(items);
+            drain(acc, result);
+        });
+    }
+
+    private Page<T> takeHead() {
+        lock.lock();
+        try {
+            fill();
+            head = window.pollFirst();
+            fill();
+            return head;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void fill() {
+        lock.lock();
+        try {
+            while (!closed && nextPage < plannedPages
+                    && window.size() < opts.prefetch() && inFlight < opts.parallelism()) {
+                int index = nextPage++;
+                inFlight++;
+                Page<T> page = new Page<>(index, fetcher.fetch(index * opts.pageSize() + 1, opts.pageSize()));
+                window.addLast(page);
+                page.items().whenComplete((items, err) -> {
+                    lock.lock();
+                    try {
+                        inFlight--;
+                        if (err == null) onPageDone(index, items);
+                    } finally {
+                        lock.unlock();
+                    }
+                    fill();
+                });
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Consumer side, in page order. A stale count only ever leaves trailing pages empty; rows after a
+    // short page mean the server returned fewer than the limit asked for.
+    private void verify(int index, List<T> items) {
+        lock.lock();
+        try {
+            if (shortPage >= 0 && index > shortPage && !items.isEmpty()) {
+                throw new DnacException(null, "Page " + shortPage + " held fewer than " + opts.pageSize()
+                        + " rows but page " + index + " was not empty: the endpoint caps pages below pageSize", null);
+            }
+            if (shortPage < 0 && items.size() < opts.pageSize()) shortPage = index;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Called from both the completion callback and the consumer; whichever runs first extends the plan.
+    private void onPageDone(int index, List<T> items) {
+        lock.lock();
+        try {
+            if (index == plannedPages - 1 && items.size() >= opts.pageSize()) plannedPages++;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
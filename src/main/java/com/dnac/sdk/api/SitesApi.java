@@ -2,17 +2,58 @@
 package com.dnac.sdk.api;
 
 import com.dnac.sdk.config.DnacConfig;
+import com.dnac.sdk.http.Futures;
 import com.dnac.sdk.http.HttpExecutor;
-import com.dnac.sdk.http.JsonSupport;
+import com.dnac.sdk.model.common.CountResponse;
+import com.dnac.sdk.model.site.Site;
 import com.dnac.sdk.model.site.SiteListResponse;
 
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
 public final class SitesApi {
     private final HttpExecutor http;
 
     public SitesApi(DnacConfig cfg, HttpExecutor http) { this.http = http; }
 
     public SiteListResponse list() throws Exception {
-        String json = http.get("/dna/intent/api/v1/site", null);
-        return new JsonSupport().read(json, SiteListResponse.class);
+        return http.get("/dna/intent/api/v1/site", null, SiteListResponse.class);
+    }
+
+    public int count() throws Exception {
+        return http.get("/dna/intent/api/v1/site/count", null, CountResponse.class).response;
+    }
+
+    /** Lazy, paged view of all sites using the same engine as DevicesApi.stream. */
+    public Stream<Site> stream(PageOptions opts) throws Exception {
+        return listing(count(), opts).stream();
+    }
+
+    public Iterator<Site> iterator(PageOptions opts) throws Exception {
+        return listing(count(), opts).iterator();
+    }
+
+    public CompletableFuture<SiteListResponse> listAsync() {
+        return http.getAsync("/dna/intent/api/v1/site", null, SiteListResponse.class);
+    }
+
+    public CompletableFuture<Integer> countAsync() {
+        return Futures.thenApply(http.getAsync("/dna/intent/api/v1/site/count", null, CountResponse.class), r -> r.response);
+    }
+
+    /** Every site, paged like DevicesApi.listAllAsync. */
+    public CompletableFuture<List<Site>> listAllAsync() {
+        return countAsync().thenCompose(total -> listing(total, PageOptions.defaults()).toListAsync());
+    }
+
+    private PagedListing<Site> listing(int total, PageOptions opts) {
+        return new PagedListing<>(total, opts, (offset, limit) ->
+                Futures.thenApply(http.getAsync("/dna/intent/api/v1/site",
+                                Map.of("offset", String.valueOf(offset), "limit", String.valueOf(limit)),
+                                SiteListResponse.class),
+                        resp -> resp.response == null ? List.<Site>of() : resp.response));
     }
-}
\ No newline at end of file
+}
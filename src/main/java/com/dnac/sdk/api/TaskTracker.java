@@ -0,0 +1,206 @@
+// com/dnac/sdk/api/TaskTracker.java
+package com.dnac.sdk.api;
+
+import com.dnac.sdk.config.DnacConfig;
+import com.dnac.sdk.exceptions.DnacTaskFailedException;
+import com.dnac.sdk.exceptions.DnacTimeoutException;
+import com.dnac.sdk.http.Futures;
+import com.dnac.sdk.http.HttpExecutor;
+import com.dnac.sdk.http.JsonSupport;
+import com.dnac.sdk.model.common.TaskEnvelope;
+import com.dnac.sdk.model.common.TaskInner;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Watches any number of DNAC tasks from one scheduler thread.
+ * <p>
+ * Each watched task has its own poll interval: it starts at {@code initialInterval}, grows by
+ * {@code backoffFactor} while the task's progress text stays the same (capped at
+ * {@code maxInterval}), and drops back when progress moves. Polls are plain async GETs, so the
+ * scheduler thread only ever hands work off. Callers watching the same task share one watch.
+ * A task resolves to its fileId, or fails with {@link DnacTaskFailedException} when DNAC reports
+ * {@code isError} (carrying {@code failureReason}) or with {@link DnacTimeoutException} past the
+ * caller's own timeout.
+ */
+public final class TaskTracker implements AutoCloseable {
+    private static final Duration INITIAL_INTERVAL = Duration.ofMillis(500);
+    private static final Duration MAX_INTERVAL = Duration.ofSeconds(5);
+    private static final double BACKOFF_FACTOR = 1.3;
+
+    private final DnacConfig cfg;
+    private final HttpExecutor http;
+    private final JsonSupport json;
+    private final Duration maxInterval;
+    private final ScheduledThreadPoolExecutor scheduler;
+    private final ConcurrentHashMap<String, Watch> watches = new ConcurrentHashMap<>();
+
+    private final LongAdder polls = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    public TaskTracker(DnacConfig cfg, HttpExecutor http, JsonSupport json) {
+        this(cfg, http, json, MAX_INTERVAL);
+    }
+
+    public TaskTracker(DnacConfig cfg, HttpExecutor http, JsonSupport json, Duration maxInterval) {
+        this.cfg = cfg; this.http = http; this.json = json; this.maxInterval = maxInterval;
+        this.scheduler = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread t = new Thread(r, "dnac-task-tracker");
+            t.setDaemon(true);
+            return t;
+        });
+        this.scheduler.setRemoveOnCancelPolicy(true);
+    }
+
+    /** Resolves to the task's fileId using the default initial poll interval. */
+    public CompletableFuture<String> fileId(String taskId, Duration timeout) {
+        return fileId(taskId, timeout, INITIAL_INTERVAL);
+    }
+
+    public CompletableFuture<String> fileId(String taskId, Duration timeout, Duration initialInterval) {
+        Objects.requireNonNull(taskId);
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (true) {
+            Watch existing = watches.get(taskId);
+            if (existing != null) {
+                existing.extendDeadline(deadline);
+                return waiter(existing, deadline);
+            }
+            Watch w = new Watch(taskId, deadline, clamp(initialInterval));
+            if (watches.putIfAbsent(taskId, w) != null) continue;
+            w.result.whenComplete((v, e) -> watches.remove(taskId, w));
+            schedule(w, 0);
+            return waiter(w, deadline);
+        }
+    }
+
+    // The watch runs until the latest deadline any caller asked for; each caller still times out at
+    // its own. A copy, so a caller's cancel must not end a shared watch.
+    private static CompletableFuture<String> waiter(Watch w, long deadline) {
+        CompletableFuture<String> mine = w.result.copy();
+        Futures.onTimeout(mine, deadline - System.nanoTime(), () -> mine.completeExceptionally(
+                new DnacTimeoutException(w.uri, "Timed out waiting for fileId in task " + w.taskId, null)));
+        return mine;
+    }
+
+    public int watching() { return watches.size(); }
+    public long pollCount() { return polls.sum(); }
+    public long completedCount() { return completed.sum(); }
+    public long failedCount() { return failed.sum(); }
+
+    /** Stops polling; tasks still being watched fail with CancellationException. */
+    @Override public void close() {
+        scheduler.shutdownNow();
+        for (Watch w : watches.values()) w.result.cancel(false);
+    }
+
+    private final class Watch {
+        final String taskId;
+        final URI uri;
+        final CompletableFuture<String> result = new CompletableFuture<>();
+        final AtomicLong deadlineNanos;
+        final long initialNanos;
+        long intervalNanos;     // touched only by the poll chain, one step at a time
+        String lastProgress;
+
+        Watch(String taskId, long deadlineNanos, Duration initialInterval) {
+            this.taskId = taskId;
+            this.uri = URI.create(cfg.baseUri() + CommandRunnerApi.taskPath(taskId));
+            this.deadlineNanos = new AtomicLong(deadlineNanos);
+            this.initialNanos = initialInterval.toNanos();
+            this.intervalNanos = initialNanos;
+        }
+
+        void extendDeadline(long d) {
+            deadlineNanos.accumulateAndGet(d, (cur, cand) -> cand - cur > 0 ? cand : cur);
+        }
+    }
+
+    private void schedule(Watch w, long delayNanos) {
+        long remaining = w.deadlineNanos.get() - System.nanoTime();
+        if (remaining <= 0) {
+            fail(w, new DnacTimeoutException(w.uri, "Timed out waiting for fileId in task " + w.taskId, null));
+            return;
+        }
+        try {
+            scheduler.schedule(() -> poll(w), Math.min(delayNanos, remaining), TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException closed) {
+            w.result.cancel(false);
+        }
+    }
+
+    private void poll(Watch w) {
+        if (w.result.isDone()) return;
+        polls.increment();
+        http.getAsync(CommandRunnerApi.taskPath(w.taskId), null, TaskEnvelope.class).whenComplete((env, err) -> {
+            if (err != null) {
+                // The executor already retried transport errors and 5xx; give up on this task.
+                fail(w, Futures.unwrap(err));
+                return;
+            }
+            TaskInner t = env.response;
+            if (t == null) {
+                next(w, null);
+                return;
+            }
+            if (Boolean.TRUE.equals(t.isError)) {
+                String reason = t.failureReason != null ? t.failureReason : t.progress;
+                fail(w, new DnacTaskFailedException(w.uri, w.taskId, reason, null));
+                return;
+            }
+            String fileId;
+            try {
+                fileId = fileId(t.progress);
+            } catch (Exception e) {
+                fail(w, new DnacTaskFailedException(w.uri, w.taskId, "unreadable progress: " + t.progress, e));
+                return;
+            }
+            if (fileId != null) {
+                completed.increment();
+                w.result.complete(fileId);
+                return;
+            }
+            next(w, t.progress);
+        });
+    }
+
+    private void next(Watch w, String progress) {
+        if (progress != null && !progress.equals(w.lastProgress)) {
+            w.lastProgress = progress;
+            w.intervalNanos = Math.max(w.initialNanos, w.intervalNanos / 2); // moving: look sooner
+        } else {
+            w.intervalNanos = Math.min(maxInterval.toNanos(), (long) (w.intervalNanos * BACKOFF_FACTOR));
+        }
+        long jitter = ThreadLocalRandom.current().nextLong(w.intervalNanos / 10 + 1);
+        schedule(w, w.intervalNanos + jitter);
+    }
+
+    private void fail(Watch w, Throwable t) {
+        if (w.result.completeExceptionally(t)) failed.increment();
+    }
+
+    /**
+     * Command Runner reports {"fileId": "..."} in progress once output is ready; before that progress
+     * is plain text. Progress that looks like JSON but does not parse is an error, not "not ready".
+     */
+    private String fileId(String progress) throws Exception {
+        if (progress == null) return null;
+        String p = progress.trim();
+        if (!p.startsWith("{")) return null;
+        JsonNode node = json.mapper().readTree(p);
+        JsonNode file = node.get("fileId");
+        return file != null && !file.asText().isBlank() ? file.asText() : null;
+    }
+
+    private Duration clamp(Duration initial) {
+        if (initial == null || initial.isNegative() || initial.isZero()) return INITIAL_INTERVAL;
+        return initial.compareTo(maxInterval) > 0 ? maxInterval : initial;
+    }
+}
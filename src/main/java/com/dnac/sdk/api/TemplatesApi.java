@@ -2,32 +2,52 @@
 package com.dnac.sdk.api;
 
 import com.dnac.sdk.config.DnacConfig;
+import com.dnac.sdk.http.Futures;
 import com.dnac.sdk.http.HttpExecutor;
 import com.dnac.sdk.http.JsonSupport;
 import com.dnac.sdk.model.template.*;
+import com.fasterxml.jackson.core.type.TypeReference;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static com.dnac.sdk.http.Futures.unchecked;
 
 public final class TemplatesApi {
+    private static final TypeReference<List<Project>> PROJECT_LIST = new TypeReference<>() {};
+
     private final HttpExecutor http;
-    private final JsonSupport json = new JsonSupport();
+    private final JsonSupport json;
 
-    public TemplatesApi(DnacConfig cfg, HttpExecutor http) { this.http = http; }
+    public TemplatesApi(DnacConfig cfg, HttpExecutor http, JsonSupport json) { this.http = http; this.json = json; }
 
     public List<Project> listProjects() throws Exception {
-        String body = http.get("/dna/intent/api/v1/template-programmer/project", null);
-        var type = json.mapper().getTypeFactory().constructCollectionType(List.class, Project.class);
-        return json.mapper().readValue(body, type);
+        return http.get("/dna/intent/api/v1/template-programmer/project", null, PROJECT_LIST);
     }
 
     public Project createProject(String name, String description, List<CreateProjectRequest.Tag> tags) throws Exception {
+        String body = http.postJson("/dna/intent/api/v1/template-programmer/project", projectRequest(name, description, tags));
+        return project(body);
+    }
+
+    public CompletableFuture<List<Project>> listProjectsAsync() {
+        return http.getAsync("/dna/intent/api/v1/template-programmer/project", null, PROJECT_LIST);
+    }
+
+    public CompletableFuture<Project> createProjectAsync(String name, String description, List<CreateProjectRequest.Tag> tags) {
+        return Futures.thenApply(http.postJsonAsync("/dna/intent/api/v1/template-programmer/project",
+                projectRequest(name, description, tags)), unchecked(this::project));
+    }
+
+    private static CreateProjectRequest projectRequest(String name, String description, List<CreateProjectRequest.Tag> tags) {
         CreateProjectRequest req = new CreateProjectRequest();
         req.name = name;
         req.description = description == null ? "" : description;
         req.tags = tags == null ? List.of() : tags;
+        return req;
+    }
 
-        String body = http.postJson("/dna/intent/api/v1/template-programmer/project", req);
-
+    private Project project(String body) throws Exception {
         // some deployments wrap in envelope
         try {
             ProjectEnvelope env = json.read(body, ProjectEnvelope.class);
@@ -35,4 +55,4 @@ public final class TemplatesApi {
         } catch (Exception ignore) {}
         return json.read(body, Project.class);
     }
-}
\ No newline at end of file
+}
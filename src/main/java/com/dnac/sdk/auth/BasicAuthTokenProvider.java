@@ -2,27 +2,59 @@
 package com.dnac.sdk.auth;
 
 import com.dnac.sdk.config.DnacConfig;
+import com.dnac.sdk.http.Futures;
 import com.dnac.sdk.http.JsonSupport;
+import com.dnac.sdk.limits.EndpointFamily;
+import com.dnac.sdk.limits.RateLimiter;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.net.URI;
 import java.net.http.*;
+import java.util.concurrent.CompletableFuture;
 
 public final class BasicAuthTokenProvider implements TokenProvider {
     private final DnacConfig cfg;
     private final HttpClient http;
     private final JsonSupport json;
+    private final RateLimiter limiter; // may be null
 
     public BasicAuthTokenProvider(DnacConfig cfg, HttpClient http, JsonSupport json) {
-        this.cfg = cfg; this.http = http; this.json = json;
+        this(cfg, http, json, null);
+    }
+
+    public BasicAuthTokenProvider(DnacConfig cfg, HttpClient http, JsonSupport json, RateLimiter limiter) {
+        this.cfg = cfg; this.http = http; this.json = json; this.limiter = limiter;
     }
 
     @Override public String getToken() throws Exception {
+        return Futures.await(getTokenAsync());
+    }
+
+    @Override public CompletableFuture<String> getTokenAsync() {
+        CompletableFuture<Void> slot = limiter == null
+                ? CompletableFuture.completedFuture(null)
+                : limiter.acquire(EndpointFamily.AUTH);
+        long[] start = new long[1];
+        return slot.thenCompose(ignored -> {
+                    start[0] = System.nanoTime();
+                    return http.sendAsync(tokenRequest(), HttpResponse.BodyHandlers.ofString());
+                })
+                .thenApply(Futures.unchecked(res -> {
+                    if (limiter != null) limiter.onResponse(EndpointFamily.AUTH, res.statusCode(), -1);
+                    return parse(res);
+                }))
+                .whenComplete((token, err) -> {
+                    // Time from the request leaving, not from the rate-limiter queue.
+                    if (start[0] != 0) cfg.metrics().tokenFetched(System.nanoTime() - start[0], err == null);
+                });
+    }
+
+    private HttpRequest tokenRequest() {
         String auth = cfg.username() + ":" + cfg.password();
         String basic = "Basic " + java.util.Base64.getEncoder().encodeToString(auth.getBytes());
 
-        HttpRequest req = HttpRequest.newBuilder()
+        return HttpRequest.newBuilder()
                 .uri(URI.create(cfg.baseUri() + "/dna/system/api/v1/auth/token"))
                 .timeout(cfg.requestTimeout())
                 .header("Accept", "application/json")
@@ -30,8 +62,9 @@ public final class BasicAuthTokenProvider implements TokenProvider {
                 .header("Authorization", basic)
                 .POST(HttpRequest.BodyPublishers.ofString("{}"))
                 .build();
+    }
 
-        HttpResponse<String> res = http.send(req, HttpResponse.BodyHandlers.ofString());
+    private String parse(HttpResponse<String> res) throws Exception {
         if (res.statusCode() / 100 != 2) {
             throw new RuntimeException("Token request failed: " + res.statusCode() + " - " + res.body());
         }
@@ -47,4 +80,4 @@ public final class BasicAuthTokenProvider implements TokenProvider {
         @JsonProperty("Token")
         public String Token;
     }
-}
\ No newline at end of file
+}
@@ -1,22 +1,145 @@
 // com/dnac/sdk/auth/CachingTokenProvider.java
 package com.dnac.sdk.auth;
 
-import java.time.*;
+import com.dnac.sdk.http.Futures;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Token lifecycle manager in front of a fetching provider.
+ * <ul>
+ *   <li>Reads of a valid token are a single volatile load; no lock is ever taken.</li>
+ *   <li>Refreshes are single-flight: every caller that needs a new token waits on the same fetch,
+ *       through its own copy, so one caller cancelling or being interrupted leaves the others alone.</li>
+ *   <li>A timer refreshes the token {@code refreshAhead} before it expires, so neither busy nor idle
+ *       clients wait on /auth/token at the hour boundary. A failed timed refresh is retried while the
+ *       old token lasts, and a read within the window also starts one, returning the current token.</li>
+ *   <li>{@link #invalidate(String)} drops the token after a 401; however many threads report the same
+ *       rejected token, only one refresh runs.</li>
+ * </ul>
+ */
+public final class CachingTokenProvider implements TokenProvider, AutoCloseable {
+    private static final long RETRY_NANOS = TimeUnit.SECONDS.toNanos(30);   // after a failed refresh, halving toward expiry
+    private static final long MIN_RETRY_NANOS = TimeUnit.SECONDS.toNanos(1); // closer to expiry, leave it to the callers
+    private record Cached(String token, long refreshAtNanos, long expiresAtNanos) {}
 
-public final class CachingTokenProvider implements TokenProvider {
     private final TokenProvider delegate;
     private final Duration ttl;
-    private volatile String cached;
-    private volatile Instant exp = Instant.EPOCH;
+    private final Duration refreshAhead;
+    private final AtomicReference<Cached> current = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<String>> inflight = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<Void>> timer = new AtomicReference<>();
+    private volatile boolean closed;
+
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder backgroundRefreshes = new LongAdder();
+    private final LongAdder refreshFailures = new LongAdder();
+    private final LongAdder waits = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
 
     public CachingTokenProvider(TokenProvider delegate, Duration ttl) {
-        this.delegate = delegate; this.ttl = ttl;
+        this(delegate, ttl, ttl.dividedBy(10).compareTo(Duration.ofMinutes(5)) < 0 ? ttl.dividedBy(10) : Duration.ofMinutes(5));
+    }
+
+    public CachingTokenProvider(TokenProvider delegate, Duration ttl, Duration refreshAhead) {
+        this.delegate = delegate; this.ttl = ttl; this.refreshAhead = refreshAhead;
+    }
+
+    @Override public String getToken() throws Exception {
+        Cached c = current.get();
+        long now = System.nanoTime();
+        if (c != null && now - c.expiresAtNanos() < 0) {
+            if (now - c.refreshAtNanos() >= 0) refreshInBackground();
+            return c.token();
+        }
+        waits.increment();
+        return Futures.await(refresh());
+    }
+
+    @Override public CompletableFuture<String> getTokenAsync() {
+        Cached c = current.get();
+        long now = System.nanoTime();
+        if (c != null && now - c.expiresAtNanos() < 0) {
+            if (now - c.refreshAtNanos() >= 0) refreshInBackground();
+            return CompletableFuture.completedFuture(c.token());
+        }
+        waits.increment();
+        return refresh();
+    }
+
+    @Override public void invalidate(String token) {
+        Cached c = current.get();
+        if (c != null && c.token().equals(token) && current.compareAndSet(c, null)) {
+            invalidations.increment();
+            refresh();
+        }
+    }
+
+    public long refreshCount() { return refreshes.sum(); }
+    public long backgroundRefreshCount() { return backgroundRefreshes.sum(); }
+    public long refreshFailureCount() { return refreshFailures.sum(); }
+    /** Calls that found no usable token and had to wait for a refresh. */
+    public long waitCount() { return waits.sum(); }
+    public long invalidationCount() { return invalidations.sum(); }
+
+    /** Stops the refresh timer; the provider still fetches on demand. */
+    @Override public void close() {
+        closed = true;
+        CompletableFuture<Void> t = timer.getAndSet(null);
+        if (t != null) t.cancel(false);
+    }
+
+    private void refreshInBackground() {
+        if (inflight.get() == null) refresh(true);
+    }
+
+    private CompletableFuture<String> refresh() {
+        return refresh(false);
+    }
+
+    private CompletableFuture<String> refresh(boolean background) {
+        while (true) {
+            CompletableFuture<String> running = inflight.get();
+            if (running != null) return running.copy(); // a caller cancelling its copy must not cancel the shared fetch
+            CompletableFuture<String> mine = new CompletableFuture<>();
+            if (!inflight.compareAndSet(null, mine)) continue;
+
+            refreshes.increment();
+            if (background) backgroundRefreshes.increment();
+            delegate.getTokenAsync().whenComplete((token, err) -> {
+                if (err == null) {
+                    long now = System.nanoTime();
+                    Cached next = new Cached(token, now + ttl.minus(refreshAhead).toNanos(), now + ttl.toNanos());
+                    current.set(next);
+                    scheduleRefresh(next, next.refreshAtNanos() - now);
+                } else {
+                    refreshFailures.increment();
+                    Cached still = current.get(); // null after a 401: the next caller fetches anyway
+                    long left = still == null ? 0 : still.expiresAtNanos() - System.nanoTime();
+                    long retry = Math.min(RETRY_NANOS, left / 2);
+                    if (retry >= MIN_RETRY_NANOS) scheduleRefresh(still, retry);
+                }
+                // Clear before completing so a caller retrying after a failure starts a fresh fetch.
+                inflight.set(null);
+                if (err == null) mine.complete(token);
+                else mine.completeExceptionally(Futures.unwrap(err));
+            });
+            return mine.copy();
+        }
     }
 
-    @Override public synchronized String getToken() throws Exception {
-        if (cached != null && Instant.now().isBefore(exp)) return cached;
-        cached = delegate.getToken();
-        exp = Instant.now().plus(ttl);
-        return cached;
+    // Replaces any earlier timer; it fires only if c is still the current token by then.
+    private void scheduleRefresh(Cached c, long delayNanos) {
+        if (closed) return;
+        CompletableFuture<Void> t = new CompletableFuture<Void>().completeOnTimeout(null, Math.max(0, delayNanos), TimeUnit.NANOSECONDS);
+        CompletableFuture<Void> old = timer.getAndSet(t);
+        if (old != null) old.cancel(false); // also drops its entry from the JDK timer
+        t.thenRun(() -> {
+            if (!closed && current.get() == c) refresh(true);
+        });
     }
-}
\ No newline at end of file
+}
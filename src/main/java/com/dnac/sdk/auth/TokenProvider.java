@@ -1,6 +1,23 @@
 // com/dnac/sdk/auth/TokenProvider.java
 package com.dnac.sdk.auth;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface TokenProvider {
     String getToken() throws Exception;
-}
\ No newline at end of file
+
+    /** Non-blocking variant; providers that do network I/O should override this. */
+    default CompletableFuture<String> getTokenAsync() {
+        try {
+            return CompletableFuture.completedFuture(getToken());
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Tells a caching provider that {@code token} was rejected (HTTP 401). Only the token that was
+     * actually used is passed, so a late 401 for an already-replaced token is a no-op.
+     */
+    default void invalidate(String token) {}
+}
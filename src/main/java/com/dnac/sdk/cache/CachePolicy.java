@@ -0,0 +1,53 @@
+// com/dnac/sdk/cache/CachePolicy.java
+package com.dnac.sdk.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/** Which GET paths {@link ResponseCache} may keep, for how long, and its memory budget. */
+public final class CachePolicy {
+    public record Rule(Pattern pathPattern, Duration ttl) {}
+
+    private final long maxBytes;
+    private final List<Rule> rules;
+
+    private CachePolicy(long maxBytes, List<Rule> rules) {
+        if (maxBytes <= 0) throw new IllegalArgumentException("maxBytes must be > 0");
+        this.maxBytes = maxBytes;
+        this.rules = List.copyOf(rules);
+    }
+
+    /** An empty policy with the given budget; add paths with {@link #cache(String, Duration)}. */
+    public static CachePolicy withBudget(long maxBytes) {
+        return new CachePolicy(maxBytes, List.of());
+    }
+
+    /** Device lookups, counts and sites for 30s within 64 MiB. */
+    public static CachePolicy inventoryDefaults() {
+        return withBudget(64L << 20)
+                .cache(".*/network-device/count", Duration.ofSeconds(30))
+                .cache(".*/network-device/serial-number/[^/]+", Duration.ofSeconds(30))
+                .cache(".*/network-device/[^/]+", Duration.ofSeconds(30))
+                .cache(".*/site(/count)?", Duration.ofSeconds(30));
+    }
+
+    /** Caches GETs whose path (query excluded) fully matches {@code pathRegex}; first matching rule wins. */
+    public CachePolicy cache(String pathRegex, Duration ttl) {
+        List<Rule> copy = new ArrayList<>(rules);
+        copy.add(new Rule(Pattern.compile(pathRegex), ttl));
+        return new CachePolicy(maxBytes, copy);
+    }
+
+    /** TTL for a request path, or null when the path is not cacheable. */
+    public Duration ttlFor(String path) {
+        for (Rule r : rules) {
+            if (r.pathPattern().matcher(path).matches()) return r.ttl();
+        }
+        return null;
+    }
+
+    public long maxBytes() { return maxBytes; }
+    public List<Rule> rules() { return rules; }
+}
@@ -0,0 +1,167 @@
+// com/dnac/sdk/cache/ResponseCache.java
+package com.dnac.sdk.cache;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Byte-budgeted LRU of raw GET response bodies, keyed by path + query.
+ * <p>
+ * Bodies are kept as the UTF-8 bytes DNAC sent, so a hit is decoded into fresh objects and callers
+ * never share mutable models; the cache copies bodies in and out, so no caller can alter an entry.
+ * Writes invalidate by path prefix (a POST to /network-device drops /network-device/count,
+ * /network-device/{id}, ...). Each invalidated prefix remembers the generation it happened at, so
+ * a GET that was already in flight when a write to its path started cannot store the pre-write
+ * body afterwards, while GETs under unrelated paths still fill.
+ */
+public final class ResponseCache {
+    private static final int ENTRY_OVERHEAD = 96; // map node, entry record, array header: rough
+    private static final int MAX_TRACKED_PREFIXES = 256;
+    private record Entry(byte[] body, long expiresAtNanos, long weight) {}
+
+    private final CachePolicy policy;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, true); // guarded by lock
+    private long bytes; // guarded by lock
+    private final AtomicLong generation = new AtomicLong(); // bumped under the lock
+    private final HashMap<String, Long> invalidatedAt = new HashMap<>(); // guarded by lock; prefix -> generation
+    private long invalidatedAllAt; // guarded by lock; fills from before this generation are all refused
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public ResponseCache(CachePolicy policy) {
+        this.policy = policy;
+    }
+
+    /** TTL that applies to this request path, or null when it must not be cached. */
+    public Duration ttlFor(String path) {
+        return policy.ttlFor(path);
+    }
+
+    /** A copy of the cached body, or null. */
+    public byte[] get(String key) {
+        lock.lock();
+        try {
+            Entry e = entries.get(key);
+            if (e != null && System.nanoTime() - e.expiresAtNanos() >= 0) {
+                remove(key);
+                expirations.increment();
+                e = null;
+            }
+            if (e == null) {
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return e.body().clone();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Read before sending the GET; pass it back to {@link #put} so racing writes win. */
+    public long generation() {
+        return generation.get();
+    }
+
+    /** Stores a copy of {@code body} unless a write to a prefix of {@code key} began after {@code generationAtRequest}. */
+    public void put(String key, byte[] body, Duration ttl, long generationAtRequest) {
+        long weight = body.length + 2L * key.length() + ENTRY_OVERHEAD;
+        if (weight > policy.maxBytes()) return;
+        byte[] copy = body.clone();
+        lock.lock();
+        try {
+            if (invalidatedSince(key, generationAtRequest)) return;
+            Entry old = entries.put(key, new Entry(copy, System.nanoTime() + ttl.toNanos(), weight));
+            if (old != null) bytes -= old.weight();
+            bytes += weight;
+            Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator();
+            while (bytes > policy.maxBytes() && it.hasNext()) {
+                Map.Entry<String, Entry> eldest = it.next();
+                bytes -= eldest.getValue().weight();
+                it.remove();
+                evictions.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Drops every entry whose key starts with {@code pathPrefix}. */
+    public void invalidatePrefix(String pathPrefix) {
+        lock.lock();
+        try {
+            if (invalidatedAt.size() >= MAX_TRACKED_PREFIXES) {
+                // Forget the individual prefixes, conservatively: fills from before now are all refused.
+                invalidatedAllAt = generation.get();
+                invalidatedAt.clear();
+            }
+            invalidatedAt.put(pathPrefix, generation.incrementAndGet());
+            Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<String, Entry> e = it.next();
+                if (e.getKey().startsWith(pathPrefix)) {
+                    bytes -= e.getValue().weight();
+                    it.remove();
+                    invalidations.increment();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            invalidatedAllAt = generation.incrementAndGet();
+            invalidatedAt.clear();
+            invalidations.add(entries.size());
+            entries.clear();
+            bytes = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long hitCount() { return hits.sum(); }
+    public long missCount() { return misses.sum(); }
+    public long evictionCount() { return evictions.sum(); }
+    public long expirationCount() { return expirations.sum(); }
+    public long invalidationCount() { return invalidations.sum(); }
+
+    public long sizeBytes() {
+        lock.lock();
+        try { return bytes; } finally { lock.unlock(); }
+    }
+
+    public int size() {
+        lock.lock();
+        try { return entries.size(); } finally { lock.unlock(); }
+    }
+
+    // Caller holds the lock. True when the key was invalidated after a request read generationAtRequest.
+    private boolean invalidatedSince(String key, long generationAtRequest) {
+        if (invalidatedAllAt > generationAtRequest) return true;
+        for (Map.Entry<String, Long> e : invalidatedAt.entrySet()) {
+            if (e.getValue() > generationAtRequest && key.startsWith(e.getKey())) return true;
+        }
+        return false;
+    }
+
+    // Caller holds the lock.
+    private void remove(String key) {
+        Entry e = entries.remove(key);
+        if (e != null) bytes -= e.weight();
+    }
+}
@@ -0,0 +1,59 @@
+// com/dnac/sdk/command/BatchOptions.java
+package com.dnac.sdk.command;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/** Tuning for {@link CommandBatchRunner}. */
+public final class BatchOptions {
+    private static final BatchOptions DEFAULTS = new BatchOptions(100, 4, 3, Duration.ofMinutes(5), Duration.ofSeconds(2), 0);
+
+    private final int chunkSize;            // devices per read-request
+    private final int maxTasksInFlight;     // keep under the controller's concurrent CLI task limit
+    private final int maxAttempts;          // per chunk, including the first
+    private final Duration taskTimeout;     // submit -> fileId
+    private final Duration pollInterval;
+    private final int commandTimeoutSec;    // passed to DNAC; 0 = controller default
+    private final Path spillDir;            // null = parse result files in memory
+    private final int spillThreshold;       // chars; longer outputs go to spillDir
+
+    public BatchOptions(int chunkSize, int maxTasksInFlight, int maxAttempts,
+                        Duration taskTimeout, Duration pollInterval, int commandTimeoutSec) {
+        this(chunkSize, maxTasksInFlight, maxAttempts, taskTimeout, pollInterval, commandTimeoutSec, null, 64 * 1024);
+    }
+
+    private BatchOptions(int chunkSize, int maxTasksInFlight, int maxAttempts, Duration taskTimeout,
+                         Duration pollInterval, int commandTimeoutSec, Path spillDir, int spillThreshold) {
+        if (chunkSize < 1) throw new IllegalArgumentException("chunkSize must be >= 1");
+        if (maxTasksInFlight < 1) throw new IllegalArgumentException("maxTasksInFlight must be >= 1");
+        if (maxAttempts < 1) throw new IllegalArgumentException("maxAttempts must be >= 1");
+        this.chunkSize = chunkSize;
+        this.maxTasksInFlight = maxTasksInFlight;
+        this.maxAttempts = maxAttempts;
+        this.taskTimeout = taskTimeout;
+        this.pollInterval = pollInterval;
+        this.commandTimeoutSec = commandTimeoutSec;
+        this.spillDir = spillDir;
+        this.spillThreshold = spillThreshold;
+    }
+
+    public static BatchOptions defaults() { return DEFAULTS; }
+
+    /**
+     * Result files are downloaded into {@code dir} and parsed from there, and outputs longer than
+     * {@code thresholdChars} stay on disk (see {@link DeviceResult#spilledOutputs()}).
+     */
+    public BatchOptions withSpill(Path dir, int thresholdChars) {
+        return new BatchOptions(chunkSize, maxTasksInFlight, maxAttempts, taskTimeout, pollInterval,
+                commandTimeoutSec, dir, thresholdChars);
+    }
+
+    public int chunkSize() { return chunkSize; }
+    public int maxTasksInFlight() { return maxTasksInFlight; }
+    public int maxAttempts() { return maxAttempts; }
+    public Duration taskTimeout() { return taskTimeout; }
+    public Duration pollInterval() { return pollInterval; }
+    public int commandTimeoutSec() { return commandTimeoutSec; }
+    public Path spillDir() { return spillDir; }
+    public int spillThreshold() { return spillThreshold; }
+}
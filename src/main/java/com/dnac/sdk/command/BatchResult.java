@@ -0,0 +1,20 @@
+// com/dnac/sdk/command/BatchResult.java
+package com.dnac.sdk.command;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/** Per-device results of one {@link CommandBatchRunner#run} call, in completion order. */
+public record BatchResult(List<DeviceResult> results, int chunks, int retriedChunks) {
+
+    public Map<DeviceResult.Status, Long> countsByStatus() {
+        return results.stream().collect(Collectors.groupingBy(DeviceResult::status,
+                () -> new EnumMap<>(DeviceResult.Status.class), Collectors.counting()));
+    }
+
+    public List<DeviceResult> failures() {
+        return results.stream().filter(r -> !r.isSuccess()).collect(Collectors.toList());
+    }
+}
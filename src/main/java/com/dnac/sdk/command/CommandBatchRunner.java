@@ -0,0 +1,163 @@
+// com/dnac/sdk/command/CommandBatchRunner.java
+package com.dnac.sdk.command;
+
+import com.dnac.sdk.api.CommandOutputReader;
+import com.dnac.sdk.api.CommandRunnerApi;
+import com.dnac.sdk.api.DeviceOutput;
+import com.dnac.sdk.http.Futures;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Runs read-only CLI commands across thousands of devices through Command Runner.
+ * <p>
+ * The device list is cut into chunks of {@link BatchOptions#chunkSize()}, and up to
+ * {@link BatchOptions#maxTasksInFlight()} chunks are worked at once. Each chunk is its own async
+ * pipeline (submit, poll for the fileId, download), so one chunk's download overlaps the next
+ * one's submit and polling; as soon as a chunk finishes the next one starts. A chunk whose task
+ * fails is resubmitted with backoff up to {@link BatchOptions#maxAttempts()} times, after which its
+ * devices are reported as {@link DeviceResult.Status#ERROR}. No thread waits on DNAC meanwhile.
+ */
+public final class CommandBatchRunner {
+    private final CommandRunnerApi api;
+    private final BatchOptions opts;
+
+    public CommandBatchRunner(CommandRunnerApi api, BatchOptions opts) {
+        this.api = api; this.opts = opts;
+    }
+
+    public BatchResult run(List<String> deviceUuids, List<String> commands) throws Exception {
+        return Futures.await(runAsync(deviceUuids, commands, r -> {}));
+    }
+
+    /** {@code onResult} sees each device as soon as its chunk completes (on a client thread; keep it quick). */
+    public CompletableFuture<BatchResult> runAsync(List<String> deviceUuids, List<String> commands,
+                                                   Consumer<DeviceResult> onResult) {
+        List<String> unique = new ArrayList<>(new LinkedHashSet<>(deviceUuids));
+        List<List<String>> chunks = new ArrayList<>();
+        for (int i = 0; i < unique.size(); i += opts.chunkSize()) {
+            chunks.add(List.copyOf(unique.subList(i, Math.min(i + opts.chunkSize(), unique.size()))));
+        }
+        Batch batch = new Batch(chunks, List.copyOf(commands), onResult);
+        batch.launch();
+        return batch.done;
+    }
+
+    private final class Batch {
+        private final ArrayDeque<List<String>> pending;
+        private final List<String> commands;
+        private final Consumer<DeviceResult> onResult;
+        private final int chunkCount;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final List<DeviceResult> results = new ArrayList<>(); // guarded by lock
+        private int running;                                          // guarded by lock
+        private int retried;                                          // guarded by lock
+        final CompletableFuture<BatchResult> done = new CompletableFuture<>();
+
+        Batch(List<List<String>> chunks, List<String> commands, Consumer<DeviceResult> onResult) {
+            this.pending = new ArrayDeque<>(chunks);
+            this.commands = commands;
+            this.onResult = onResult;
+            this.chunkCount = chunks.size();
+        }
+
+        void launch() {
+            List<List<String>> start = new ArrayList<>();
+            BatchResult finished = null;
+            lock.lock();
+            try {
+                while (running < opts.maxTasksInFlight() && !pending.isEmpty() && !done.isDone()) {
+                    start.add(pending.poll());
+                    running++;
+                }
+                if (running == 0 && pending.isEmpty()) finished = new BatchResult(List.copyOf(results), chunkCount, retried);
+            } finally {
+                lock.unlock();
+            }
+            if (finished != null) done.complete(finished);
+            for (List<String> chunk : start) runChunk(chunk, 1);
+        }
+
+        private void runChunk(List<String> chunk, int attempt) {
+            api.submitAsync(chunk, commands, opts.commandTimeoutSec())
+                    .thenCompose(taskId -> api.waitForFileIdAsync(taskId, opts.taskTimeout(), opts.pollInterval()))
+                    .thenCompose(fileId -> readResults(fileId))
+                    .whenComplete((byDevice, err) -> {
+                        if (err == null) {
+                            finish(chunk, toResults(chunk, byDevice));
+                        } else if (attempt < opts.maxAttempts() && !done.isDone()) {
+                            lock.lock();
+                            try { retried++; } finally { lock.unlock(); }
+                            long delay = Math.min(1000L << attempt, 30_000L) + ThreadLocalRandom.current().nextLong(0, 500);
+                            CompletableFuture.runAsync(() -> runChunk(chunk, attempt + 1), Futures.delayed(delay));
+                        } else {
+                            Throwable cause = Futures.unwrap(err);
+                            List<DeviceResult> failed = new ArrayList<>(chunk.size());
+                            for (String id : chunk) failed.add(DeviceResult.error(id, cause));
+                            finish(chunk, failed);
+                        }
+                    });
+        }
+
+        private void finish(List<String> chunk, List<DeviceResult> chunkResults) {
+            lock.lock();
+            try {
+                results.addAll(chunkResults);
+                running--;
+            } finally {
+                lock.unlock();
+            }
+            for (DeviceResult r : chunkResults) {
+                try {
+                    onResult.accept(r);
+                } catch (RuntimeException ignore) {
+                    // a failing callback must not stall the batch
+                }
+            }
+            launch();
+        }
+    }
+
+    // Each device is reduced to its DeviceResult as the reader reaches it; the file itself is never held whole
+    // when spilling, and only as raw bytes (no tree) otherwise.
+    private CompletableFuture<Map<String, DeviceResult>> readResults(String fileId) {
+        Map<String, DeviceResult> byDevice = new HashMap<>();
+        Consumer<DeviceOutput> collect = o -> {
+            if (o.deviceUuid() != null) byDevice.putIfAbsent(o.deviceUuid(), DeviceResult.of(o));
+        };
+        if (opts.spillDir() == null) return api.readOutputsAsync(fileId, collect).thenApply(n -> byDevice);
+
+        CommandOutputReader reader = api.outputReader().spillingTo(opts.spillDir(), opts.spillThreshold());
+        Path file;
+        try {
+            file = Files.createTempFile(opts.spillDir(), "file-", ".json");
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return api.downloadFileAsync(fileId, file)
+                .thenApply(Futures.unchecked(f -> reader.read(f, collect)))
+                .handle((n, err) -> {
+                    try {
+                        Files.deleteIfExists(file);
+                    } catch (IOException ignore) {
+                        // temp file in the caller's spill directory; leaving it behind is harmless
+                    }
+                    if (err != null) throw new CompletionException(Futures.unwrap(err));
+                    return byDevice;
+                });
+    }
+
+    private static List<DeviceResult> toResults(List<String> chunk, Map<String, DeviceResult> byDevice) {
+        List<DeviceResult> out = new ArrayList<>(chunk.size());
+        for (String id : chunk) out.add(byDevice.getOrDefault(id, DeviceResult.missing(id)));
+        return out;
+    }
+}
@@ -0,0 +1,47 @@
+// com/dnac/sdk/command/DeviceResult.java
+package com.dnac.sdk.command;
+
+import com.dnac.sdk.api.DeviceOutput;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+/** Outcome of a command batch for one device. */
+public record DeviceResult(String deviceUuid, Status status, Map<String, String> outputs,
+                           Map<String, Path> spilledOutputs, Map<String, String> failures, String error) {
+    public enum Status {
+        /** Every command returned output. */
+        SUCCESS,
+        /** At least one command failed on the device. */
+        FAILED,
+        /** At least one command was refused by the controller's command blacklist. */
+        BLACKLISTED,
+        /** The task finished but the result file had no entry for the device. */
+        MISSING,
+        /** The chunk's task could not be run, even after retries; see {@link #error()}. */
+        ERROR
+    }
+
+    public boolean isSuccess() { return status == Status.SUCCESS; }
+
+    static DeviceResult of(DeviceOutput out) {
+        Map<String, String> failed = out.failure(), blocked = out.blacklisted();
+        Status status = !blocked.isEmpty() ? Status.BLACKLISTED : !failed.isEmpty() ? Status.FAILED : Status.SUCCESS;
+        Map<String, String> problems = blocked.isEmpty() ? failed : failed.isEmpty() ? blocked : merge(failed, blocked);
+        return new DeviceResult(out.deviceUuid(), status, out.success(), out.spilled(), problems, null);
+    }
+
+    static DeviceResult missing(String deviceUuid) {
+        return new DeviceResult(deviceUuid, Status.MISSING, Map.of(), Map.of(), Map.of(), "No entry in the result file");
+    }
+
+    static DeviceResult error(String deviceUuid, Throwable cause) {
+        return new DeviceResult(deviceUuid, Status.ERROR, Map.of(), Map.of(), Map.of(), String.valueOf(cause.getMessage()));
+    }
+
+    private static Map<String, String> merge(Map<String, String> a, Map<String, String> b) {
+        Map<String, String> m = new java.util.LinkedHashMap<>(a);
+        m.putAll(b);
+        return m;
+    }
+}
@@ -1,9 +1,17 @@
 // com/dnac/sdk/config/DnacConfig.java
 package com.dnac.sdk.config;
 
+import com.dnac.sdk.cache.CachePolicy;
+import com.dnac.sdk.limits.ConcurrencyLimits;
+import com.dnac.sdk.limits.RateLimits;
+import com.dnac.sdk.limits.RetryLimits;
+import com.dnac.sdk.metrics.DnacMetrics;
+
 import java.net.URI;
+import java.net.http.HttpClient;
 import java.time.Duration;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 
 public class DnacConfig {
     private final URI baseUri;               // e.g. https://dnac.example.com
@@ -13,6 +21,18 @@ public class DnacConfig {
     private final Duration connectTimeout;
     private final Duration requestTimeout;
 
+    // Optional tuning; set through the with* copies below so instances stay effectively immutable.
+    private Executor executor;               // null = HttpClient's default cached pool
+    private HttpClient.Version httpVersion;  // null = HttpClient default (HTTP/2, falling back to 1.1)
+    private RateLimits rateLimits;           // null = no client-side rate limiting
+    private ConcurrencyLimits concurrency;   // null = no cap on requests in flight
+    private RetryLimits retryLimits;         // null = every call retries up to its own attempt limit
+    private CachePolicy cachePolicy;         // null = no GET response cache
+    private boolean coalesceReads;           // single-flight identical concurrent GETs
+    private boolean compression;             // send Accept-Encoding, inflate gzip/deflate bodies
+    private Duration callTimeout;            // null = calls bounded only by requestTimeout per attempt
+    private DnacMetrics metrics;             // null = no instrumentation
+
     public DnacConfig(URI baseUri, String username, String password,
                       boolean insecureTls, Duration connectTimeout, Duration requestTimeout) {
         this.baseUri = Objects.requireNonNull(baseUri);
@@ -23,10 +43,135 @@ public class DnacConfig {
         this.requestTimeout = requestTimeout == null ? Duration.ofSeconds(30) : requestTimeout;
     }
 
+    private DnacConfig(DnacConfig o) {
+        this(o.baseUri, o.username, o.password, o.insecureTls, o.connectTimeout, o.requestTimeout);
+        this.executor = o.executor;
+        this.httpVersion = o.httpVersion;
+        this.rateLimits = o.rateLimits;
+        this.concurrency = o.concurrency;
+        this.retryLimits = o.retryLimits;
+        this.cachePolicy = o.cachePolicy;
+        this.coalesceReads = o.coalesceReads;
+        this.compression = o.compression;
+        this.callTimeout = o.callTimeout;
+        this.metrics = o.metrics;
+    }
+
+    /** Executor the HttpClient uses for async work and response delivery. */
+    public DnacConfig withExecutor(Executor executor) {
+        DnacConfig c = new DnacConfig(this);
+        c.executor = executor;
+        return c;
+    }
+
+    /**
+     * One virtual thread per task. Needs a JDK 21+ runtime: the SDK is built for Java 17, so on a
+     * Java 17-20 JVM this throws UnsupportedOperationException. Load mode's --virtual-callers runs
+     * thousands of blocking callers on virtual threads against the simulator and reports carrier use.
+     */
+    public DnacConfig withVirtualThreads() {
+        return withExecutor(HttpClientFactory.virtualThreadExecutor());
+    }
+
+    /**
+     * At most {@code threads} daemon threads for async work and response delivery; idle ones exit
+     * after a minute. Keeps a burst of concurrent calls from growing the default unbounded pool.
+     */
+    public DnacConfig withBoundedExecutor(int threads) {
+        return withExecutor(HttpClientFactory.boundedExecutor(threads));
+    }
+
+    /**
+     * HTTP_2 multiplexes every request over one connection per host (negotiated by ALPN, falling
+     * back to 1.1 if the controller refuses); HTTP_1_1 keeps a pool of connections, one per
+     * request in flight.
+     */
+    public DnacConfig withHttpVersion(HttpClient.Version httpVersion) {
+        DnacConfig c = new DnacConfig(this);
+        c.httpVersion = httpVersion;
+        return c;
+    }
+
+    /** Enables the shared client-side rate limiter (per endpoint family, AIMD on 429). */
+    public DnacConfig withRateLimits(RateLimits rateLimits) {
+        DnacConfig c = new DnacConfig(this);
+        c.rateLimits = rateLimits;
+        return c;
+    }
+
+    /** Enables the adaptive in-flight request limit (latency-gradient). */
+    public DnacConfig withConcurrencyLimits(ConcurrencyLimits concurrency) {
+        DnacConfig c = new DnacConfig(this);
+        c.concurrency = concurrency;
+        return c;
+    }
+
+    /**
+     * Shares one retry budget across all calls: retries are capped at a share of recent successes
+     * (with a floor), so during an outage calls fail fast instead of each retrying several times.
+     */
+    public DnacConfig withRetryBudget(RetryLimits retryLimits) {
+        DnacConfig c = new DnacConfig(this);
+        c.retryLimits = retryLimits;
+        return c;
+    }
+
+    /** Caches GET bodies for the paths the policy lists; writes invalidate by path prefix. */
+    public DnacConfig withResponseCache(CachePolicy cachePolicy) {
+        DnacConfig c = new DnacConfig(this);
+        c.cachePolicy = cachePolicy;
+        return c;
+    }
+
+    /** Identical GETs issued while one is in flight share its response instead of going out again. */
+    public DnacConfig withRequestCoalescing(boolean coalesceReads) {
+        DnacConfig c = new DnacConfig(this);
+        c.coalesceReads = coalesceReads;
+        return c;
+    }
+
+    /**
+     * Asks for gzip/deflate responses and inflates them as they stream in. Worth it over slow
+     * links for device lists and command output; on a LAN the CPU cost can outweigh the saving.
+     */
+    public DnacConfig withCompression(boolean compression) {
+        DnacConfig c = new DnacConfig(this);
+        c.compression = compression;
+        return c;
+    }
+
+    /**
+     * Overall budget for each call, across every attempt, token fetch and backoff; without it a
+     * failing call can take several request timeouts plus backoff. Per-call budgets can be set
+     * with DnacClientImpl.withCallOptions.
+     */
+    public DnacConfig withCallTimeout(Duration callTimeout) {
+        DnacConfig c = new DnacConfig(this);
+        c.callTimeout = callTimeout;
+        return c;
+    }
+
+    /** Receives request latency, retry, failure, byte and token-fetch measurements (e.g. InMemoryMetrics). */
+    public DnacConfig withMetrics(DnacMetrics metrics) {
+        DnacConfig c = new DnacConfig(this);
+        c.metrics = metrics;
+        return c;
+    }
+
     public URI baseUri() { return baseUri; }
     public String username() { return username; }
     public String password() { return password; }
     public boolean insecureTls() { return insecureTls; }
     public Duration connectTimeout() { return connectTimeout; }
     public Duration requestTimeout() { return requestTimeout; }
-}
\ No newline at end of file
+    public Executor executor() { return executor; }
+    public HttpClient.Version httpVersion() { return httpVersion; }
+    public RateLimits rateLimits() { return rateLimits; }
+    public ConcurrencyLimits concurrencyLimits() { return concurrency; }
+    public RetryLimits retryLimits() { return retryLimits; }
+    public CachePolicy cachePolicy() { return cachePolicy; }
+    public boolean coalesceReads() { return coalesceReads; }
+    public boolean compression() { return compression; }
+    public Duration callTimeout() { return callTimeout; }
+    public DnacMetrics metrics() { return metrics == null ? DnacMetrics.NOOP : metrics; }
+}
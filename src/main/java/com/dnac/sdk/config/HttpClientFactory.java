@@ -8,10 +8,18 @@ import java.net.http.HttpClient;
 import java.security.SecureRandom;
 import java.security.cert.X509Certificate;
 import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public final class HttpClientFactory {
     public static HttpClient create(DnacConfig cfg) throws Exception {
         HttpClient.Builder b = HttpClient.newBuilder().connectTimeout(cfg.connectTimeout());
+        if (cfg.executor() != null) b.executor(cfg.executor());
+        if (cfg.httpVersion() != null) b.version(cfg.httpVersion());
         if (cfg.insecureTls()) {
             TrustManager[] trustAll = new TrustManager[] {
                     new X509TrustManager() {
@@ -27,4 +35,36 @@ public final class HttpClientFactory {
         }
         return b.build();
     }
-}
\ No newline at end of file
+
+    /**
+     * Fixed-size pool of daemon threads named dnac-http-N. Tasks queue rather than being rejected
+     * (the HttpClient has no recovery for a rejected hand-off), and idle threads time out.
+     */
+    public static ExecutorService boundedExecutor(int threads) {
+        if (threads < 1) throw new IllegalArgumentException("threads must be >= 1");
+        AtomicInteger n = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), r -> {
+                    Thread t = new Thread(r, "dnac-http-" + n.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    /**
+     * Executors.newVirtualThreadPerTaskExecutor(), looked up reflectively so the SDK still
+     * compiles for Java 17. Throws UnsupportedOperationException when the runtime lacks it.
+     */
+    public static ExecutorService virtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException e) {
+            throw new UnsupportedOperationException("Virtual threads need JDK 21+, running on "
+                    + Runtime.version(), e);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not create virtual-thread executor", e);
+        }
+    }
+}
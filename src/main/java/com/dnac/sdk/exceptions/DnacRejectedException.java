@@ -0,0 +1,11 @@
+// com/dnac/sdk/exceptions/DnacRejectedException.java
+package com.dnac.sdk.exceptions;
+
+import java.net.URI;
+
+/** Thrown without contacting DNAC when a client-side limiter sheds the call. */
+public class DnacRejectedException extends DnacException {
+    public DnacRejectedException(URI uri, String message) {
+        super(uri, message, null);
+    }
+}
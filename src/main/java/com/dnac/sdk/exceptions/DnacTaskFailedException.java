@@ -0,0 +1,19 @@
+// com/dnac/sdk/exceptions/DnacTaskFailedException.java
+package com.dnac.sdk.exceptions;
+
+import java.net.URI;
+
+/** A DNAC task finished with isError=true, or reported progress that could not be read. */
+public class DnacTaskFailedException extends DnacException {
+    private final String taskId;
+    private final String failureReason;
+
+    public DnacTaskFailedException(URI uri, String taskId, String failureReason, Throwable cause) {
+        super(uri, "Task " + taskId + " failed: " + failureReason, null, cause);
+        this.taskId = taskId;
+        this.failureReason = failureReason;
+    }
+
+    public String taskId() { return taskId; }
+    public String failureReason() { return failureReason; }
+}
@@ -0,0 +1,49 @@
+// com/dnac/sdk/http/CallOptions.java
+package com.dnac.sdk.http;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Time budget for calls made through {@link HttpExecutor#withOptions(CallOptions)}. A
+ * {@code timeout} starts afresh for every call; a {@code deadline} is fixed and shared by every
+ * call that carries it. With both, the earlier one wins. The budget covers the whole call: rate
+ * limiter and concurrency queues, token fetch, every attempt and the backoff between them.
+ */
+public final class CallOptions {
+    /** No budget beyond the per-attempt request timeout and the retry limit. */
+    public static final CallOptions NONE = new CallOptions(null, null);
+
+    private final Duration timeout;  // null = none
+    private final Deadline deadline; // null = none
+
+    private CallOptions(Duration timeout, Deadline deadline) {
+        this.timeout = timeout;
+        this.deadline = deadline;
+    }
+
+    public static CallOptions timeout(Duration timeout) {
+        return NONE.withTimeout(timeout);
+    }
+
+    public static CallOptions deadline(Deadline deadline) {
+        return NONE.withDeadline(deadline);
+    }
+
+    public CallOptions withTimeout(Duration timeout) {
+        return new CallOptions(Objects.requireNonNull(timeout), deadline);
+    }
+
+    public CallOptions withDeadline(Deadline deadline) {
+        return new CallOptions(timeout, Objects.requireNonNull(deadline));
+    }
+
+    public Duration timeout() { return timeout; }
+    public Deadline deadline() { return deadline; }
+
+    /** The deadline for a call starting now, or null when there is no budget. */
+    Deadline startCall() {
+        if (timeout == null) return deadline;
+        return Deadline.after(timeout).earlier(deadline);
+    }
+}
@@ -0,0 +1,214 @@
+// com/dnac/sdk/http/Compression.java
+package com.dnac.sdk.http;
+
+import java.io.EOFException;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * Response compression for HttpExecutor: the Accept-Encoding value to send and a body-handler
+ * wrapper that inflates gzip/deflate bodies chunk by chunk as they arrive, so whatever consumes
+ * the body (an InputStream feeding the JSON parser, a byte array, a file) sees plain bytes
+ * without the compressed response ever being held whole. Also counts bytes before and after.
+ */
+public final class Compression {
+    static final String ACCEPT_ENCODING = "gzip, deflate";
+
+    private final LongAdder compressedResponses = new LongAdder();
+    private final LongAdder identityResponses = new LongAdder();
+    private final LongAdder compressedBytes = new LongAdder();
+    private final LongAdder inflatedBytes = new LongAdder();
+
+    /** Responses that arrived gzip- or deflate-encoded. */
+    public long compressedResponses() { return compressedResponses.sum(); }
+    /** Responses the server sent without a content encoding. */
+    public long identityResponses() { return identityResponses.sum(); }
+    /** Body bytes received for encoded responses, as sent on the wire. */
+    public long compressedBytes() { return compressedBytes.sum(); }
+    /** The same bodies after inflation. */
+    public long inflatedBytes() { return inflatedBytes.sum(); }
+
+    /** inflated / compressed over all encoded responses so far; 0 before the first one. */
+    public double ratio() {
+        long c = compressedBytes.sum();
+        return c == 0 ? 0 : (double) inflatedBytes.sum() / c;
+    }
+
+    <T> HttpResponse.BodyHandler<T> wrap(HttpResponse.BodyHandler<T> handler) {
+        return info -> {
+            String enc = info.headers().firstValue("Content-Encoding").orElse("").trim().toLowerCase(Locale.ROOT);
+            boolean gzip = enc.equals("gzip") || enc.equals("x-gzip");
+            if (!gzip && !enc.equals("deflate")) {
+                identityResponses.increment();
+                return handler.apply(info);
+            }
+            compressedResponses.increment();
+            return new InflatingSubscriber<>(handler.apply(info), gzip);
+        };
+    }
+
+    /**
+     * Inflates each upstream chunk into exactly one downstream chunk, so demand passes straight
+     * through. gzip framing (header, CRC32, length trailer) is handled here; the deflate data
+     * goes through a raw Inflater. "deflate" bodies are zlib-wrapped unless the first byte says raw.
+     */
+    private final class InflatingSubscriber<T> implements HttpResponse.BodySubscriber<T> {
+        private static final int CHUNK = 16 * 1024;
+
+        private final HttpResponse.BodySubscriber<T> downstream;
+        private final boolean gzip;
+        private final CRC32 crc = new CRC32();
+        private final byte[] header = new byte[10];
+        private final byte[] trailer = new byte[8];
+        private Inflater inflater;
+        private int headerLen;
+        private int flags = -1;       // gzip FLG once the fixed header is in; -1 before
+        private int extraLeft = -1;   // FEXTRA bytes still to skip; -1 while the length is unread
+        private int trailerLen;
+        private long size;
+        private Flow.Subscription subscription;
+        private boolean failed;
+
+        InflatingSubscriber(HttpResponse.BodySubscriber<T> downstream, boolean gzip) {
+            this.downstream = downstream;
+            this.gzip = gzip;
+        }
+
+        @Override public java.util.concurrent.CompletionStage<T> getBody() { return downstream.getBody(); }
+
+        @Override public void onSubscribe(Flow.Subscription s) {
+            this.subscription = s;
+            downstream.onSubscribe(s);
+        }
+
+        @Override public void onNext(List<ByteBuffer> items) {
+            if (failed) return;
+            List<ByteBuffer> out = new ArrayList<>(items.size() + 1);
+            try {
+                for (ByteBuffer b : items) {
+                    compressedBytes.add(b.remaining());
+                    feed(b, out);
+                }
+            } catch (DataFormatException | ZipException e) {
+                failed = true;
+                subscription.cancel();
+                end();
+                downstream.onError(e instanceof ZipException ? e : new ZipException("Corrupt compressed body: " + e.getMessage()));
+                return;
+            }
+            downstream.onNext(out);
+        }
+
+        @Override public void onError(Throwable t) {
+            end();
+            if (!failed) downstream.onError(t);
+        }
+
+        @Override public void onComplete() {
+            if (failed) return;
+            boolean complete = inflater != null && inflater.finished() && (!gzip || trailerLen == trailer.length);
+            end();
+            if (!complete) {
+                downstream.onError(new EOFException("Compressed body ended early"));
+                return;
+            }
+            if (gzip && (le32(trailer, 0) != crc.getValue() || le32(trailer, 4) != (size & 0xFFFFFFFFL))) {
+                downstream.onError(new ZipException("gzip trailer mismatch (CRC or length)"));
+                return;
+            }
+            downstream.onComplete();
+        }
+
+        private void feed(ByteBuffer b, List<ByteBuffer> out) throws DataFormatException, ZipException {
+            while (b.hasRemaining()) {
+                if (inflater == null) {
+                    if (gzip) {
+                        if (!readGzipHeader(b)) continue;
+                        inflater = new Inflater(true);
+                    } else {
+                        // zlib header: CM=8 in the low nibble; otherwise treat it as raw deflate
+                        inflater = new Inflater((b.get(b.position()) & 0x0F) != 8);
+                    }
+                }
+                if (inflater.finished()) {
+                    int n = Math.min(b.remaining(), trailer.length - trailerLen);
+                    if (!gzip || n == 0) {
+                        b.position(b.limit()); // trailing bytes after the stream are ignored
+                        return;
+                    }
+                    b.get(trailer, trailerLen, n);
+                    trailerLen += n;
+                    continue;
+                }
+                inflater.setInput(b); // advances b's position as input is consumed
+                while (true) {
+                    byte[] chunk = new byte[CHUNK];
+                    int n = inflater.inflate(chunk);
+                    if (n > 0) {
+                        if (gzip) crc.update(chunk, 0, n);
+                        size += n;
+                        inflatedBytes.add(n);
+                        out.add(ByteBuffer.wrap(chunk, 0, n));
+                    }
+                    if (inflater.finished() || inflater.needsInput()) break;
+                    if (n == 0 && inflater.needsDictionary()) throw new ZipException("Preset dictionaries are not supported");
+                }
+            }
+        }
+
+        // Consumes header bytes from b; true once the whole header (with optional fields) is read.
+        private boolean readGzipHeader(ByteBuffer b) throws ZipException {
+            while (b.hasRemaining()) {
+                if (flags < 0) {
+                    header[headerLen++] = b.get();
+                    if (headerLen < header.length) continue;
+                    if ((header[0] & 0xFF) != 0x1F || (header[1] & 0xFF) != 0x8B || header[2] != 8) {
+                        throw new ZipException("Not in gzip format");
+                    }
+                    flags = header[3] & 0xFF;
+                    headerLen = 0;
+                } else if ((flags & 4) != 0) {                  // FEXTRA: 2-byte length, then data
+                    if (extraLeft < 0) {
+                        header[headerLen++] = b.get();
+                        if (headerLen == 2) {
+                            extraLeft = (header[0] & 0xFF) | (header[1] & 0xFF) << 8;
+                            headerLen = 0;
+                        }
+                    } else if (extraLeft > 0) {
+                        int n = Math.min(extraLeft, b.remaining());
+                        b.position(b.position() + n);
+                        extraLeft -= n;
+                    }
+                    if (extraLeft == 0) flags &= ~4;
+                } else if ((flags & 8) != 0) {                  // FNAME, zero-terminated
+                    if (b.get() == 0) flags &= ~8;
+                } else if ((flags & 16) != 0) {                 // FCOMMENT, zero-terminated
+                    if (b.get() == 0) flags &= ~16;
+                } else if ((flags & 2) != 0) {                  // FHCRC: 2 bytes
+                    b.get();
+                    if (++headerLen == 2) flags &= ~2;
+                } else {
+                    return true;
+                }
+            }
+            return flags >= 0 && (flags & (2 | 4 | 8 | 16)) == 0;
+        }
+
+        private void end() {
+            if (inflater != null) inflater.end();
+        }
+
+        private static long le32(byte[] a, int off) {
+            return (a[off] & 0xFFL) | (a[off + 1] & 0xFFL) << 8 | (a[off + 2] & 0xFFL) << 16 | (a[off + 3] & 0xFFL) << 24;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+// com/dnac/sdk/http/Deadline.java
+package com.dnac.sdk.http;
+
+import java.time.Duration;
+
+/**
+ * A point on the monotonic clock by which a call must be finished. Several calls may share one
+ * (say, everything a request handler does for its own caller); see {@link CallOptions}.
+ */
+public final class Deadline implements Comparable<Deadline> {
+    private final long atNanos;
+
+    private Deadline(long atNanos) { this.atNanos = atNanos; }
+
+    public static Deadline after(Duration budget) {
+        long nanos = budget.isNegative() ? 0 : Math.min(saturatedNanos(budget), Long.MAX_VALUE / 4); // no wrap-around
+        return new Deadline(System.nanoTime() + nanos);
+    }
+
+    public long remainingNanos() { return Math.max(0, atNanos - System.nanoTime()); }
+    public Duration remaining() { return Duration.ofNanos(remainingNanos()); }
+    public boolean expired() { return atNanos - System.nanoTime() <= 0; }
+
+    /** Whichever of the two comes first; {@code other} may be null. */
+    public Deadline earlier(Deadline other) {
+        return other == null || compareTo(other) <= 0 ? this : other;
+    }
+
+    @Override public int compareTo(Deadline o) { return Long.signum(atNanos - o.atNanos); }
+
+    @Override public String toString() { return "Deadline[remaining=" + remaining().toMillis() + "ms]"; }
+
+    private static long saturatedNanos(Duration d) {
+        try {
+            return d.toNanos();
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+// com/dnac/sdk/http/Futures.java
+package com.dnac.sdk.http;
+
+import java.util.concurrent.*;
+import java.util.function.Function;
+
+/** Small helpers shared by the async surface (checked lambdas, unwrapping, timers). */
+public final class Futures {
+    private Futures() {}
+
+    @FunctionalInterface
+    public interface CheckedFunction<T, R> {
+        R apply(T t) throws Exception;
+    }
+
+    /** Adapts a throwing function for thenApply; checked failures travel as CompletionException. */
+    public static <T, R> Function<T, R> unchecked(CheckedFunction<T, R> f) {
+        return t -> {
+            try {
+                return f.apply(t);
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        };
+    }
+
+    /**
+     * {@code source.thenApply(fn)}, except that cancelling the returned future also cancels
+     * {@code source}, so a caller who gives up on a mapped call stops the request behind it.
+     */
+    public static <T, R> CompletableFuture<R> thenApply(CompletableFuture<T> source, Function<? super T, ? extends R> fn) {
+        CompletableFuture<R> mapped = source.thenApply(fn);
+        mapped.whenComplete((r, e) -> {
+            if (mapped.isCancelled()) source.cancel(true);
+        });
+        return mapped;
+    }
+
+    /** Strips CompletionException/ExecutionException wrappers added by the future machinery. */
+    public static Throwable unwrap(Throwable t) {
+        while ((t instanceof CompletionException || t instanceof ExecutionException) && t.getCause() != null) {
+            t = t.getCause();
+        }
+        return t;
+    }
+
+    /** Blocks for the result and rethrows the original failure instead of an ExecutionException. */
+    public static <T> T await(CompletableFuture<T> f) throws Exception {
+        try {
+            return f.get();
+        } catch (ExecutionException e) {
+            Throwable cause = unwrap(e);
+            if (cause instanceof Exception ex) throw ex;
+            if (cause instanceof Error err) throw err;
+            throw e;
+        } catch (InterruptedException e) {
+            f.cancel(true);
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+    }
+
+    /**
+     * Runs {@code onTimeout} if {@code f} is still pending after the delay. The timer entry is
+     * dropped as soon as {@code f} completes, so short calls don't leave timers queued behind them.
+     */
+    public static void onTimeout(CompletableFuture<?> f, long delayNanos, Runnable onTimeout) {
+        if (f.isDone()) return;
+        CompletableFuture<Void> timer = new CompletableFuture<>();
+        timer.orTimeout(Math.max(0, delayNanos), TimeUnit.NANOSECONDS).whenComplete((v, e) -> {
+            if (e != null && !f.isDone()) onTimeout.run();
+        });
+        f.whenComplete((v, e) -> timer.complete(null)); // cancels the scheduled timeout
+    }
+
+    /** Executor that runs a task after the delay on the JDK's shared timer; nothing sleeps. */
+    public static Executor delayed(long delayMs) {
+        return CompletableFuture.delayedExecutor(Math.max(0, delayMs), TimeUnit.MILLISECONDS);
+    }
+}
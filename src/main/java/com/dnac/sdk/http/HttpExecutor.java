@@ -2,107 +2,563 @@
 package com.dnac.sdk.http;
 
 import com.dnac.sdk.auth.TokenProvider;
+import com.dnac.sdk.cache.ResponseCache;
 import com.dnac.sdk.config.DnacConfig;
 import com.dnac.sdk.exceptions.*;
+import com.dnac.sdk.limits.ConcurrencyLimiter;
+import com.dnac.sdk.limits.EndpointFamily;
+import com.dnac.sdk.limits.RateLimiter;
+import com.dnac.sdk.limits.RetryBudget;
+import com.dnac.sdk.metrics.DnacMetrics;
+import com.dnac.sdk.metrics.EndpointTemplates;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
 
+import java.io.InputStream;
 import java.net.URI;
 import java.net.http.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 
 public final class HttpExecutor {
+    private static final int MAX_ATTEMPTS = 5;
+
     private final DnacConfig cfg;
     private final HttpClient http;
     private final TokenProvider tokens;
     private final JsonSupport json;
+    private final RateLimiter limiter; // may be null
+    private final ConcurrencyLimiter concurrency; // may be null
+    private final RetryBudget retryBudget; // may be null
+    private final ResponseCache cache; // may be null
+    private final RequestCoalescer coalescer; // may be null
+    private final Compression compression; // may be null
+    private final DnacMetrics metrics;
+    private final CallOptions options;
 
     public HttpExecutor(DnacConfig cfg, HttpClient http, TokenProvider tokens, JsonSupport json) {
-        this.cfg = cfg; this.http = http; this.tokens = tokens; this.json = json;
+        this(cfg, http, tokens, json, null);
+    }
+
+    public HttpExecutor(DnacConfig cfg, HttpClient http, TokenProvider tokens, JsonSupport json, RateLimiter limiter) {
+        this.cfg = cfg; this.http = http; this.tokens = tokens; this.json = json; this.limiter = limiter;
+        this.concurrency = cfg.concurrencyLimits() == null ? null : new ConcurrencyLimiter(cfg.concurrencyLimits());
+        this.retryBudget = cfg.retryLimits() == null ? null : new RetryBudget(cfg.retryLimits());
+        this.cache = cfg.cachePolicy() == null ? null : new ResponseCache(cfg.cachePolicy());
+        this.coalescer = cfg.coalesceReads() ? new RequestCoalescer() : null;
+        this.compression = cfg.compression() ? new Compression() : null;
+        this.metrics = cfg.metrics();
+        this.options = cfg.callTimeout() == null ? CallOptions.NONE : CallOptions.timeout(cfg.callTimeout());
+    }
+
+    private HttpExecutor(HttpExecutor o, CallOptions options) {
+        this.cfg = o.cfg; this.http = o.http; this.tokens = o.tokens; this.json = o.json; this.limiter = o.limiter;
+        this.concurrency = o.concurrency;
+        this.retryBudget = o.retryBudget;
+        this.cache = o.cache;
+        this.coalescer = o.coalescer;
+        this.compression = o.compression;
+        this.metrics = o.metrics;
+        this.options = options;
     }
 
+    /**
+     * A view of this executor whose calls run under {@code options}; limiters, cache, coalescing
+     * and counters stay shared with this one. A call that runs out of budget fails with
+     * DnacTimeoutException, and no retry starts unless its backoff plus one more attempt still fits.
+     */
+    public HttpExecutor withOptions(CallOptions options) {
+        return new HttpExecutor(this, Objects.requireNonNull(options));
+    }
+
+    public CallOptions options() { return options; }
+
+    /** Single-flight counters for identical GETs, or null when coalescing is off. */
+    public RequestCoalescer requestCoalescer() { return coalescer; }
+
+    /** Compressed vs inflated byte counters, or null when compression is off. */
+    public Compression compression() { return compression; }
+
+    /** The GET response cache (hits, misses, evictions, size), or null when not configured. */
+    public ResponseCache responseCache() { return cache; }
+
+    /** The shared retry budget (available, permitted, suppressed), or null when not configured. */
+    public RetryBudget retryBudget() { return retryBudget; }
+
+    /** The adaptive in-flight limiter (limit, inFlight, queueDepth), or null when not configured. */
+    public ConcurrencyLimiter concurrencyLimiter() { return concurrency; }
+
     public String get(String path, Map<String,String> query) throws Exception {
+        Call call = getCall(path, query);
+        return await(call, getTextAsync(call));
+    }
+
+    public String postJson(String path, Object body) throws Exception {
+        Call call = postCall(path, json.writeBytes(body));
+        return await(call, sendWithPolicy(call, HttpResponse.BodyHandlers.ofString()));
+    }
+
+    /** Typed GET that decodes from the response InputStream; no String copy of the body is made. */
+    public <T> T get(String path, Map<String,String> query, Class<T> type) throws Exception {
+        return decode(getCall(path, query), json.type(type));
+    }
+
+    public <T> T get(String path, Map<String,String> query, TypeReference<T> type) throws Exception {
+        return decode(getCall(path, query), json.type(type));
+    }
+
+    public <T> T postJson(String path, Object body, Class<T> type) throws Exception {
+        return decode(postCall(path, json.writeBytes(body)), json.type(type));
+    }
+
+    public CompletableFuture<String> getAsync(String path, Map<String,String> query) {
+        return getTextAsync(getCall(path, query));
+    }
+
+    /**
+     * The raw response body as a stream for incremental parsing; the caller must close it.
+     * Bypasses the response cache and coalescing, which both need the whole body.
+     */
+    public InputStream getStream(String path, Map<String,String> query) throws Exception {
+        Call call = getCall(path, query);
+        return await(call, sendWithPolicy(call, HttpResponse.BodyHandlers.ofInputStream()));
+    }
+
+    public CompletableFuture<byte[]> getBytesAsync(String path, Map<String,String> query) {
+        return fetchBytes(getCall(path, query));
+    }
+
+    /** Streams the body straight into {@code target} (created or truncated); nothing is buffered in memory. */
+    public CompletableFuture<Path> downloadAsync(String path, Map<String,String> query, Path target) {
+        return sendWithPolicy(getCall(path, query), HttpResponse.BodyHandlers.ofFile(target));
+    }
+
+    public CompletableFuture<String> postJsonAsync(String path, Object body) {
+        byte[] payload;
+        try {
+            payload = json.writeBytes(body);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return sendWithPolicy(postCall(path, payload), HttpResponse.BodyHandlers.ofString());
+    }
+
+    // Async typed calls buffer the raw bytes and decode from them: reading a response InputStream
+    // inside a completion stage would block one of the HttpClient's executor threads.
+    public <T> CompletableFuture<T> getAsync(String path, Map<String,String> query, Class<T> type) {
+        return decodeAsync(getCall(path, query), json.type(type));
+    }
+
+    public <T> CompletableFuture<T> getAsync(String path, Map<String,String> query, TypeReference<T> type) {
+        return decodeAsync(getCall(path, query), json.type(type));
+    }
+
+    public <T> CompletableFuture<T> postJsonAsync(String path, Object body, Class<T> type) {
+        byte[] payload;
+        try {
+            payload = json.writeBytes(body);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return decodeAsync(postCall(path, payload), json.type(type));
+    }
+
+    private CompletableFuture<String> getTextAsync(Call call) {
+        if (coalescer == null) return getText(call);
+        return bound(call, coalescer.joinAsync(coalesceKey(call, String.class), () -> getText(call)));
+    }
+
+    private CompletableFuture<String> getText(Call call) {
+        if (isCacheable(call)) return Futures.thenApply(fetchBytes(call), b -> new String(b, StandardCharsets.UTF_8));
+        return sendWithPolicy(call, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private <T> T decode(Call call, JavaType type) throws Exception {
+        try {
+            if (coalescer != null && call.method().equals("GET")) {
+                return coalescer.join(coalesceKey(call, type), call.deadline(), () -> decodeOnce(call, type));
+            }
+            return decodeOnce(call, type);
+        } catch (InterruptedException | CancellationException e) {
+            throw aborted(call, e);
+        }
+    }
+
+    private <T> T decodeOnce(Call call, JavaType type) throws Exception {
+        if (isCacheable(call)) return json.read(Futures.await(fetchBytes(call)), type);
+        InputStream in = Futures.await(sendWithPolicy(call, HttpResponse.BodyHandlers.ofInputStream()));
+        return json.read(in, type);
+    }
+
+    private <T> CompletableFuture<T> decodeAsync(Call call, JavaType type) {
+        if (coalescer != null && call.method().equals("GET")) {
+            return bound(call, coalescer.joinAsync(coalesceKey(call, type), () -> decodeAsyncOnce(call, type)));
+        }
+        return decodeAsyncOnce(call, type);
+    }
+
+    private <T> CompletableFuture<T> decodeAsyncOnce(Call call, JavaType type) {
+        return Futures.thenApply(fetchBytes(call), Futures.unchecked(bytes -> json.read(bytes, type)));
+    }
+
+    // Token scope is the identity the token is issued to; one executor holds one, but the key stays explicit.
+    private RequestCoalescer.Key coalesceKey(Call call, Object resultType) {
+        return new RequestCoalescer.Key(call.method(), call.uri(), cfg.username(), resultType);
+    }
+
+    private boolean isCacheable(Call call) {
+        return cache != null && call.method().equals("GET") && cache.ttlFor(call.uri().getPath()) != null;
+    }
+
+    // Raw body bytes, served from the cache when allowed. Hits are decoded afresh by the caller,
+    // so cached responses never hand out shared model instances.
+    private CompletableFuture<byte[]> fetchBytes(Call call) {
+        if (!isCacheable(call)) return sendWithPolicy(call, HttpResponse.BodyHandlers.ofByteArray());
+        String key = call.uri().getRawPath() + (call.uri().getRawQuery() == null ? "" : "?" + call.uri().getRawQuery());
+        byte[] hit = cache.get(key);
+        if (hit != null) return CompletableFuture.completedFuture(hit);
+        Duration ttl = cache.ttlFor(call.uri().getPath());
+        long generation = cache.generation();
+        return Futures.thenApply(sendWithPolicy(call, HttpResponse.BodyHandlers.ofByteArray()), bytes -> {
+            cache.put(key, bytes, ttl, generation);
+            return bytes;
+        });
+    }
+
+    private Call getCall(String path, Map<String,String> query) {
         String q = (query == null || query.isEmpty()) ? "" :
                 "?" + query.entrySet().stream()
                         .map(e -> urlEnc(e.getKey()) + "=" + urlEnc(e.getValue()))
                         .collect(Collectors.joining("&"));
         URI uri = URI.create(cfg.baseUri() + ensureLeadingSlash(path) + q);
-        return sendWithPolicy("GET", uri, null, "application/json");
+        return new Call("GET", uri, null, "application/json", options.startCall());
     }
 
-    public String postJson(String path, Object body) throws Exception {
-        String payload = json.write(body);
+    private Call postCall(String path, byte[] payload) {
         URI uri = URI.create(cfg.baseUri() + ensureLeadingSlash(path));
-        return sendWithPolicy("POST", uri, payload, "application/json");
+        return new Call("POST", uri, payload, "application/json", options.startCall());
     }
 
-    // --- Core send policy with retries, 401 refresh, Retry-After, jitter ---
-    private String sendWithPolicy(String method, URI uri, String payload, String contentType) throws Exception {
-        int maxAttempts = 5;
-        int attempt = 0;
-        boolean refreshedOn401 = false;
-
-        while (true) {
-            attempt++;
-
-            String token = tokens.getToken();
-            HttpRequest.Builder rb = HttpRequest.newBuilder()
-                    .uri(uri)
-                    .timeout(cfg.requestTimeout())
-                    .header("Accept", "application/json")
-                    .header("X-Auth-Token", token);
-
-            if (payload != null) rb.header("Content-Type", contentType);
-
-            HttpRequest req = switch (method) {
-                case "GET"  -> rb.GET().build();
-                case "POST" -> rb.POST(HttpRequest.BodyPublishers.ofString(payload)).build();
-                default     -> throw new IllegalArgumentException("Unsupported method: " + method);
+    /** {@code deadline} is null for calls without a budget. */
+    private record Call(String method, URI uri, byte[] payload, String contentType, Deadline deadline) {
+        EndpointFamily family() { return EndpointFamily.of(uri.getPath()); }
+        String endpoint() { return EndpointTemplates.of(uri.getPath()); }
+    }
+
+    /** A 2xx response carries the caller's body type; anything else is buffered as text for error mapping. */
+    private record Reply<B>(B body, String errorBody) {}
+
+    private static <B> HttpResponse.BodyHandler<Reply<B>> replyHandler(HttpResponse.BodyHandler<B> success) {
+        return info -> info.statusCode() / 100 == 2
+                ? HttpResponse.BodySubscribers.mapping(success.apply(info), b -> new Reply<>(b, null))
+                : HttpResponse.BodySubscribers.mapping(
+                        HttpResponse.BodySubscribers.ofString(StandardCharsets.UTF_8), e -> new Reply<>(null, e));
+    }
+
+    // Outermost wrapper, so it sees the bytes as they came off the wire (still compressed, if they were).
+    private static <T> HttpResponse.BodyHandler<T> counting(HttpResponse.BodyHandler<T> handler, LongAdder received) {
+        return info -> {
+            HttpResponse.BodySubscriber<T> downstream = handler.apply(info);
+            return new HttpResponse.BodySubscriber<>() {
+                @Override public CompletionStage<T> getBody() { return downstream.getBody(); }
+                @Override public void onSubscribe(Flow.Subscription s) { downstream.onSubscribe(s); }
+                @Override public void onNext(List<ByteBuffer> items) {
+                    for (ByteBuffer b : items) received.add(b.remaining());
+                    downstream.onNext(items);
+                }
+                @Override public void onError(Throwable t) { downstream.onError(t); }
+                @Override public void onComplete() { downstream.onComplete(); }
             };
+        };
+    }
+
+    // Interrupting a blocked caller or cancelling the future it waits on aborts the call (Futures.await
+    // cancels it and keeps the interrupt flag set) and surfaces as a timeout, like a spent budget.
+    private <T> T await(Call call, CompletableFuture<T> f) throws Exception {
+        try {
+            return Futures.await(f);
+        } catch (InterruptedException | CancellationException e) {
+            throw aborted(call, e);
+        }
+    }
+
+    private static DnacTimeoutException aborted(Call call, Exception e) {
+        return new DnacTimeoutException(call.uri(), e instanceof InterruptedException ? "Interrupted" : "Cancelled", e);
+    }
+
+    private static DnacTimeoutException deadlineExceeded(Call call, Throwable lastError) {
+        return new DnacTimeoutException(call.uri(), "Call deadline exceeded", lastError);
+    }
+
+    // Holds a future that is not sendWithPolicy's own (a coalesced copy) to this call's deadline.
+    private <T> CompletableFuture<T> bound(Call call, CompletableFuture<T> f) {
+        if (call.deadline() != null) {
+            Futures.onTimeout(f, call.deadline().remainingNanos(), () -> fail(call, f, deadlineExceeded(call, null)));
+        }
+        return f;
+    }
+
+    // --- Core send policy with retries, 401 refresh, Retry-After, jitter ---
+    // Every attempt goes through HttpClient.sendAsync and backoff delays are scheduled on a timer,
+    // so no thread is held while a call waits; the blocking methods above simply await the result.
+    private <B> CompletableFuture<B> sendWithPolicy(Call call, HttpResponse.BodyHandler<B> handler) {
+        CompletableFuture<B> result = new CompletableFuture<>();
+        if (cache != null && !call.method().equals("GET")) {
+            // Write-through invalidation: drop now so no read during the write is served stale,
+            // and again once it lands so nothing fetched mid-write survives.
+            String prefix = call.uri().getRawPath();
+            cache.invalidatePrefix(prefix);
+            result.whenComplete((r, e) -> cache.invalidatePrefix(prefix));
+        }
+        if (call.deadline() != null && call.deadline().expired()) {
+            fail(call, result, deadlineExceeded(call, null));
+            return result;
+        }
+        // The deadline covers the queues, the token fetch and backoff too: whatever stage the call
+        // is in, the timer fails it, and the stages below check result.isDone() before moving on.
+        bound(call, result);
+        HttpResponse.BodyHandler<Reply<B>> reply = replyHandler(handler);
+        attempt(call, compression == null ? reply : compression.wrap(reply), 1, false, result);
+        return result;
+    }
+
+    private <B> void attempt(Call call, HttpResponse.BodyHandler<Reply<B>> handler, int attempt,
+                             boolean refreshedOn401, CompletableFuture<B> result) {
+        if (result.isDone()) return; // cancelled by the caller between attempts
+
+        // The rate limiter releases queued calls on its own timer; nothing blocks here.
+        if (limiter == null) {
+            dispatch(call, handler, attempt, refreshedOn401, result);
+        } else {
+            CompletableFuture<Void> turn = limiter.acquire(call.family());
+            result.whenComplete((r, e) -> turn.cancel(false)); // leave the queue if the call ends first
+            turn.thenRun(() -> dispatch(call, handler, attempt, refreshedOn401, result));
+        }
+    }
+
+    private <B> void dispatch(Call call, HttpResponse.BodyHandler<Reply<B>> handler, int attempt,
+                              boolean refreshedOn401, CompletableFuture<B> result) {
+        if (result.isDone()) return;
+
+        // A shared token fetch can't be cancelled for one caller; a spent budget just stops waiting on it.
+        tokens.getTokenAsync().whenComplete((token, tokenErr) -> {
+            if (result.isDone()) return;
+            if (tokenErr != null) {
+                fail(call, result, Futures.unwrap(tokenErr));
+                return;
+            }
+            HttpRequest req;
+            try {
+                req = buildRequest(call, token);
+            } catch (RuntimeException e) {
+                fail(call, result, e);
+                return;
+            }
+            if (concurrency == null) {
+                send(call, handler, attempt, refreshedOn401, token, req, null, result);
+                return;
+            }
+            CompletableFuture<ConcurrencyLimiter.Permit> slot = concurrency.acquire();
+            result.whenComplete((r, e) -> slot.cancel(false)); // leave the queue if the call ends first
+            slot.whenComplete((permit, rejected) -> {
+                if (result.isDone()) {
+                    if (permit != null) permit.abandon();
+                    return;
+                }
+                if (rejected != null) {
+                    fail(call, result, new DnacRejectedException(call.uri(), Futures.unwrap(rejected).getMessage()));
+                    return;
+                }
+                send(call, handler, attempt, refreshedOn401, token, req, permit, result);
+            });
+        });
+    }
 
-            HttpResponse<String> res;
+    private <B> void send(Call call, HttpResponse.BodyHandler<Reply<B>> handler, int attempt, boolean refreshedOn401,
+                          String token, HttpRequest req, ConcurrencyLimiter.Permit permit, CompletableFuture<B> result) {
+        long start = System.nanoTime();
+        LongAdder received = new LongAdder();
+        CompletableFuture<HttpResponse<Reply<B>>> exchange = http.sendAsync(req, counting(handler, received));
+        result.whenComplete((r, e) -> {
+            if (e != null) exchange.cancel(true); // deadline or caller cancel: abort the request on the wire
+        });
+        exchange.whenComplete((res, err) -> {
+            long rtt = System.nanoTime() - start;
+            if (result.isDone()) { // aborted above, or the deadline fired first: not a latency or overload signal
+                if (permit != null) permit.abandon();
+                if (res != null) discard(res.body().body());
+                return;
+            }
+            if (permit != null) permit.release(rtt, isOverloadSignal(res, err));
+            metrics.requestCompleted(call.method(), call.endpoint(), res == null ? -1 : res.statusCode(), attempt, rtt);
+            metrics.bytes(call.endpoint(), call.payload() == null ? 0 : call.payload().length, res == null ? -1 : bytesIn(res, received.sum()));
+            onResponse(call, handler, attempt, refreshedOn401, token, rtt, res, err, result);
+        });
+    }
+
+    // Nobody will read a body that arrived after the call gave up; close streams so the connection is not leaked.
+    private static void discard(Object body) {
+        if (body instanceof AutoCloseable c) {
             try {
-                res = http.send(req, HttpResponse.BodyHandlers.ofString());
-            } catch (HttpTimeoutException e) {
-                if (attempt >= maxAttempts) throw new DnacTimeoutException(uri, "Timeout", e);
-                sleepBackoff(attempt, /*retryAfterMs*/ Optional.empty());
-                continue;
-            } catch (Exception e) {
-                if (attempt >= maxAttempts) throw new DnacTransportException(uri, "Transport error", e);
-                sleepBackoff(attempt, Optional.empty());
-                continue;
+                c.close();
+            } catch (Exception ignore) {
+                // the connection is dropped either way
             }
+        }
+    }
 
-            int sc = res.statusCode();
-            String body = res.body();
-            String requestId = firstHeader(res, "X-Request-Id").orElse(firstHeader(res, "x-request-id").orElse(null));
+    private static boolean isOverloadSignal(HttpResponse<?> res, Throwable err) {
+        if (err != null) return Futures.unwrap(err) instanceof HttpTimeoutException;
+        int sc = res.statusCode();
+        return sc == 429 || sc == 503 || sc == 504;
+    }
+
+    private HttpRequest buildRequest(Call call, String token) {
+        HttpRequest.Builder rb = HttpRequest.newBuilder()
+                .uri(call.uri())
+                .timeout(attemptTimeout(call))
+                .header("Accept", "application/json")
+                .header("X-Auth-Token", token);
 
-            // Success
-            if (sc / 100 == 2) return body;
+        if (call.payload() != null) rb.header("Content-Type", call.contentType());
+        if (compression != null) rb.header("Accept-Encoding", Compression.ACCEPT_ENCODING);
 
-            // 401: try one forced refresh once
-            if (sc == 401 && !refreshedOn401) {
-                // force refresh by invalidating cached token (simple approach: delegate provides fresh on next call)
-                refreshedOn401 = true;
-                // Some TokenProviders may need an explicit "force refresh" method; if so, extend TokenProvider.
-                sleepBackoff(attempt, Optional.empty());
-                continue;
+        return switch (call.method()) {
+            case "GET"  -> rb.GET().build();
+            case "POST" -> rb.POST(HttpRequest.BodyPublishers.ofByteArray(call.payload())).build();
+            default     -> throw new IllegalArgumentException("Unsupported method: " + call.method());
+        };
+    }
+
+    // Never wait on one attempt past the call's deadline; HttpRequest needs a positive timeout.
+    private Duration attemptTimeout(Call call) {
+        if (call.deadline() == null) return cfg.requestTimeout();
+        long nanos = Math.max(TimeUnit.MILLISECONDS.toNanos(1), call.deadline().remainingNanos());
+        return nanos < cfg.requestTimeout().toNanos() ? Duration.ofNanos(nanos) : cfg.requestTimeout();
+    }
+
+    // A retry starts only if its backoff plus one more attempt, guessed from the last attempt's
+    // round trip, fits in what's left of the budget; otherwise the call fails now, not at the deadline.
+    private static boolean retryFits(Call call, long delayMs, long lastRttNanos) {
+        return call.deadline() == null
+                || TimeUnit.MILLISECONDS.toNanos(delayMs) + lastRttNanos < call.deadline().remainingNanos();
+    }
+
+    // The budget is only asked once the retry is otherwise going ahead, so refusals are real ones.
+    private boolean retryBudgeted(Call call, String reason, int attempt) {
+        if (retryBudget == null || retryBudget.tryRetry()) return true;
+        metrics.retrySuppressed(call.method(), call.endpoint(), reason, attempt);
+        return false;
+    }
+
+    private <B> void onResponse(Call call, HttpResponse.BodyHandler<Reply<B>> handler, int attempt, boolean refreshedOn401,
+                                String token, long rtt, HttpResponse<Reply<B>> res, Throwable err, CompletableFuture<B> result) {
+        URI uri = call.uri();
+        if (err != null) {
+            Throwable cause = Futures.unwrap(err);
+            DnacException mapped = cause instanceof HttpTimeoutException
+                    ? new DnacTimeoutException(uri, "Timeout", cause)
+                    : new DnacTransportException(uri, "Transport error", cause);
+            if (attempt >= MAX_ATTEMPTS) {
+                fail(call, result, mapped);
+                return;
+            }
+            long delay = backoffMillis(attempt, Optional.empty());
+            if (!retryFits(call, delay, rtt)) {
+                fail(call, result, deadlineExceeded(call, mapped));
+                return;
             }
+            if (!retryBudgeted(call, "transport", attempt)) {
+                fail(call, result, mapped);
+                return;
+            }
+            metrics.retryScheduled(call.method(), call.endpoint(), "transport", attempt);
+            retryLater(call, handler, attempt, refreshedOn401, delay, result);
+            return;
+        }
+
+        int sc = res.statusCode();
+        String body = res.body().errorBody();
+        String requestId = firstHeader(res, "X-Request-Id").orElse(firstHeader(res, "x-request-id").orElse(null));
+        Optional<Long> retryAfterMs = sc == 429 || sc / 100 == 5 ? parseRetryAfterMillis(res) : Optional.empty();
+        if (limiter != null) limiter.onResponse(call.family(), sc, retryAfterMs.orElse(-1L));
+
+        // Success
+        if (sc / 100 == 2) {
+            if (retryBudget != null) retryBudget.onSuccess();
+            if (!result.complete(res.body().body())) discard(res.body().body()); // lost a race with the deadline
+            return;
+        }
 
-            // 429 / 5xx: retry with backoff (+ respect Retry-After)
-            if (sc == 429 || sc / 100 == 5) {
-                if (attempt >= maxAttempts) throw toException(uri, sc, body, requestId);
-                Optional<Long> retryAfterMs = parseRetryAfterMillis(res);
-                sleepBackoff(attempt, retryAfterMs);
-                continue;
+        // 401: drop the rejected token and retry once right away with a fresh one. Not charged to the
+        // retry budget: it is bounded per call and says nothing about the controller's health.
+        if (sc == 401 && !refreshedOn401) {
+            tokens.invalidate(token);
+            if (!retryFits(call, 0, rtt)) {
+                fail(call, result, deadlineExceeded(call, toException(uri, sc, body, requestId)));
+                return;
             }
+            metrics.retryScheduled(call.method(), call.endpoint(), "401", attempt);
+            retryLater(call, handler, attempt, true, 0, result);
+            return;
+        }
 
-            // Other client errors: map and throw
-            throw toException(uri, sc, body, requestId);
+        // 429 / 5xx: retry with backoff (+ respect Retry-After)
+        if ((sc == 429 || sc / 100 == 5) && attempt < MAX_ATTEMPTS) {
+            long delay = backoffMillis(attempt, retryAfterMs);
+            String reason = sc == 429 ? "429" : "5xx";
+            if (!retryFits(call, delay, rtt)) {
+                fail(call, result, deadlineExceeded(call, toException(uri, sc, body, requestId)));
+                return;
+            }
+            if (!retryBudgeted(call, reason, attempt)) {
+                fail(call, result, toException(uri, sc, body, requestId));
+                return;
+            }
+            metrics.retryScheduled(call.method(), call.endpoint(), reason, attempt);
+            retryLater(call, handler, attempt, refreshedOn401, delay, result);
+            return;
         }
+
+        // Other client errors (or retries exhausted): map and fail
+        fail(call, result, toException(uri, sc, body, requestId));
+    }
+
+    private void fail(Call call, CompletableFuture<?> result, Throwable t) {
+        if (result.completeExceptionally(t)) metrics.callFailed(call.method(), call.endpoint(), t.getClass().getSimpleName());
+    }
+
+    // Content-Length when the server sent one, else the body bytes counted off the wire once the body
+    // was buffered; -1 for streams and files, which are still being read when the response completes.
+    private static long bytesIn(HttpResponse<? extends Reply<?>> res, long counted) {
+        var len = res.headers().firstValueAsLong("Content-Length");
+        if (len.isPresent()) return len.getAsLong();
+        Reply<?> r = res.body();
+        return r.errorBody() != null || r.body() instanceof byte[] || r.body() instanceof String ? counted : -1;
+    }
+
+    private <B> void retryLater(Call call, HttpResponse.BodyHandler<Reply<B>> handler, int attempt,
+                                boolean refreshedOn401, long delayMs, CompletableFuture<B> result) {
+        CompletableFuture.runAsync(() -> attempt(call, handler, attempt + 1, refreshedOn401, result), Futures.delayed(delayMs));
     }
 
     private static Optional<String> firstHeader(HttpResponse<?> res, String name) {
@@ -118,17 +574,22 @@ public final class HttpExecutor {
             long seconds = Long.parseLong(v);
             return Optional.of(Duration.of(seconds, ChronoUnit.SECONDS).toMillis());
         } catch (NumberFormatException ignore) {
-            // RFC allows HTTP-date; parsing omitted for brevity
+            // RFC 9110 also allows an HTTP-date, e.g. "Wed, 21 Oct 2015 07:28:00 GMT"
+        }
+        try {
+            ZonedDateTime at = ZonedDateTime.parse(v, DateTimeFormatter.RFC_1123_DATE_TIME);
+            return Optional.of(Math.max(0L, Duration.between(Instant.now(), at.toInstant()).toMillis()));
+        } catch (DateTimeParseException ignore) {
             return Optional.empty();
         }
     }
 
-    private static void sleepBackoff(int attempt, Optional<Long> retryAfterMs) {
+    private static long backoffMillis(int attempt, Optional<Long> retryAfterMs) {
         long base = (long) Math.min(200L * (1L << Math.min(attempt, 6)), 5000L); // capped backoff
         long jitter = ThreadLocalRandom.current().nextLong(0, 250);
         long delay = base + jitter;
         if (retryAfterMs.isPresent()) delay = Math.max(delay, retryAfterMs.get());
-        try { Thread.sleep(delay); } catch (InterruptedException ignored) {}
+        return delay;
     }
 
     private static String ensureLeadingSlash(String p) { return p.startsWith("/") ? p : "/" + p; }
@@ -1,17 +1,86 @@
 // com/dnac/sdk/http/JsonSupport.java
 package com.dnac.sdk.http;
 
+import com.dnac.sdk.exceptions.ApiErrorPayload;
+import com.dnac.sdk.model.command.CommandRunnerOutput;
+import com.dnac.sdk.model.command.CommandRunnerRequest;
+import com.dnac.sdk.model.command.CommandRunnerSubmitResponse;
+import com.dnac.sdk.model.common.CountResponse;
+import com.dnac.sdk.model.common.TaskEnvelope;
+import com.dnac.sdk.model.device.AddDeviceRequest;
+import com.dnac.sdk.model.device.Device;
+import com.dnac.sdk.model.device.DeviceResponse;
+import com.dnac.sdk.model.device.NetworkDeviceResponse;
+import com.dnac.sdk.model.site.SiteListResponse;
+import com.dnac.sdk.model.template.CreateProjectRequest;
+import com.dnac.sdk.model.template.Project;
+import com.dnac.sdk.model.template.ProjectEnvelope;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.*;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The SDK's single codec registry. One instance is shared by the whole client (see DnacClientImpl)
+ * so Jackson's serializer/deserializer caches survive across calls, and an ObjectReader/ObjectWriter
+ * is built once per type instead of being resolved on every request.
+ */
 public final class JsonSupport {
+    private static final List<Class<?>> MODEL_READ_TYPES = List.of(
+            Device.class, DeviceResponse.class, NetworkDeviceResponse.class, CountResponse.class,
+            SiteListResponse.class, TaskEnvelope.class, Project.class, ProjectEnvelope.class,
+            CommandRunnerSubmitResponse.class, CommandRunnerOutput.class, ApiErrorPayload.class);
+    private static final List<Class<?>> MODEL_WRITE_TYPES = List.of(
+            AddDeviceRequest.class, CreateProjectRequest.class, CommandRunnerRequest.class);
+
     private final ObjectMapper mapper = new ObjectMapper()
             .registerModule(new JavaTimeModule())
             .registerModule(new Jdk8Module())
             .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
 
-    public <T> T read(String json, Class<T> type) throws Exception { return mapper.readValue(json, type); }
-    public String write(Object o) throws Exception { return mapper.writeValueAsString(o); }
+    private final ConcurrentHashMap<JavaType, ObjectReader> readers = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    public JsonSupport() {
+        // readerFor/writerFor fetch the root (de)serializer eagerly, so this front-loads the model introspection.
+        for (Class<?> t : MODEL_READ_TYPES) reader(type(t));
+        for (Class<?> t : MODEL_WRITE_TYPES) writer(t);
+    }
+
+    public <T> T read(String json, Class<T> type) throws Exception { return reader(type(type)).readValue(json); }
+    public String write(Object o) throws Exception { return writer(typeOf(o)).writeValueAsString(o); }
     public ObjectMapper mapper() { return mapper; }
-}
\ No newline at end of file
+
+    /** Serializes request bodies straight to UTF-8 bytes for BodyPublishers.ofByteArray. */
+    public byte[] writeBytes(Object o) throws Exception { return writer(typeOf(o)).writeValueAsBytes(o); }
+
+    public JavaType type(Class<?> type) { return mapper.constructType(type); }
+    public JavaType type(TypeReference<?> type) { return mapper.getTypeFactory().constructType(type); }
+
+    public ObjectReader reader(JavaType type) { return readers.computeIfAbsent(type, mapper::readerFor); }
+    public ObjectWriter writer(Class<?> type) { return writers.computeIfAbsent(type, mapper::writerFor); }
+
+    private static Class<?> typeOf(Object o) { return o == null ? Object.class : o.getClass(); }
+
+    /** Decodes straight from UTF-8 bytes, skipping the intermediate String. */
+    public <T> T read(byte[] json, JavaType type) throws Exception { return reader(type).readValue(json); }
+
+    /**
+     * Streams tokens from {@code in} with a JsonParser, so only the object graph is materialized.
+     * The stream is drained and closed afterwards so the HTTP connection can be reused.
+     */
+    public <T> T read(InputStream in, JavaType type) throws Exception {
+        ObjectReader r = reader(type);
+        try (in; JsonParser p = r.createParser(in)) {
+            T value = r.readValue(p);
+            in.transferTo(OutputStream.nullOutputStream());
+            return value;
+        }
+    }
+}
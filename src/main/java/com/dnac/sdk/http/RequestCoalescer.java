@@ -0,0 +1,95 @@
+// com/dnac/sdk/http/RequestCoalescer.java
+package com.dnac.sdk.http;
+
+import com.dnac.sdk.exceptions.DnacTimeoutException;
+
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight for identical reads: while a GET for a key is in flight, later callers with the
+ * same key wait for it instead of sending their own. The entry is removed before the result is
+ * published, so a caller arriving afterwards always triggers a fresh request (no TTL, no staleness).
+ * <p>
+ * Every waiter receives the same decoded instance; treat coalesced results as read-only.
+ */
+public final class RequestCoalescer {
+    /** {@code resultType} keeps a String read and a typed read of the same URI apart. */
+    public record Key(String method, URI uri, String scope, Object resultType) {}
+
+    @FunctionalInterface
+    public interface CheckedSupplier<T> {
+        T get() throws Exception;
+    }
+
+    private final ConcurrentHashMap<Key, CompletableFuture<Object>> inflight = new ConcurrentHashMap<>();
+    private final LongAdder leaders = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    /** Blocking variant: the leader runs {@code call} on its own thread (so it may stream-decode). */
+    public <T> T join(Key key, CheckedSupplier<T> call) throws Exception {
+        return join(key, null, call);
+    }
+
+    /**
+     * As {@link #join(Key, CheckedSupplier)}, but a waiter gives up with DnacTimeoutException once
+     * its own {@code deadline} (may be null) passes, whatever budget the leader runs under.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T join(Key key, Deadline deadline, CheckedSupplier<T> call) throws Exception {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inflight.putIfAbsent(key, mine);
+        if (existing != null) {
+            coalesced.increment();
+            CompletableFuture<Object> wait = existing.copy(); // a waiter's interrupt must not cancel the leader
+            if (deadline != null) {
+                Futures.onTimeout(wait, deadline.remainingNanos(), () -> wait.completeExceptionally(
+                        new DnacTimeoutException(key.uri(), "Call deadline exceeded", null)));
+            }
+            return (T) Futures.await(wait);
+        }
+        leaders.increment();
+        try {
+            T value = call.get();
+            inflight.remove(key, mine);
+            mine.complete(value);
+            return value;
+        } catch (Throwable t) {
+            inflight.remove(key, mine);
+            mine.completeExceptionally(t);
+            throw t;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> joinAsync(Key key, Supplier<CompletableFuture<T>> call) {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inflight.putIfAbsent(key, mine);
+        if (existing != null) {
+            coalesced.increment();
+            return (CompletableFuture<T>) (CompletableFuture<?>) existing.copy();
+        }
+        leaders.increment();
+        CompletableFuture<T> sent;
+        try {
+            sent = call.get();
+        } catch (RuntimeException e) {
+            sent = CompletableFuture.failedFuture(e);
+        }
+        sent.whenComplete((v, err) -> {
+            inflight.remove(key, mine);
+            if (err != null) mine.completeExceptionally(Futures.unwrap(err));
+            else mine.complete(v);
+        });
+        return (CompletableFuture<T>) (CompletableFuture<?>) mine.copy();
+    }
+
+    /** Requests actually sent on behalf of a key. */
+    public long leaderCount() { return leaders.sum(); }
+    /** Callers served by another caller's in-flight request. */
+    public long coalescedCount() { return coalesced.sum(); }
+    public int inFlight() { return inflight.size(); }
+}
@@ -0,0 +1,14 @@
+// com/dnac/sdk/inventory/DeviceChangeEvent.java
+package com.dnac.sdk.inventory;
+
+import com.dnac.sdk.model.device.Device;
+
+/** One device-level difference between two inventory snapshots. */
+public record DeviceChangeEvent(Type type, Device before, Device after, long version) {
+    public enum Type { ADDED, REMOVED, CHANGED }
+
+    /** {@code before} is null for ADDED, {@code after} is null for REMOVED. */
+    public Device device() { return after != null ? after : before; }
+
+    public String id() { return device().id; }
+}
@@ -0,0 +1,91 @@
+// com/dnac/sdk/inventory/DeviceInventory.java
+package com.dnac.sdk.inventory;
+
+import com.dnac.sdk.api.DevicesApi;
+import com.dnac.sdk.http.Futures;
+import com.dnac.sdk.model.device.Device;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory device inventory with O(1) lookups by id, serial, management IP, hostname and platform.
+ * <p>
+ * The whole list is pulled once (paged, see {@link DevicesApi#listAllAsync()}) and re-pulled every
+ * {@code refreshInterval} on the JDK timer. Each load builds a new {@link InventorySnapshot} and
+ * swaps it in atomically; lookups read a volatile reference and never block or touch the network.
+ * A failed refresh keeps serving the previous snapshot.
+ */
+public final class DeviceInventory implements AutoCloseable {
+    private final DevicesApi devices;
+    private final AtomicReference<InventorySnapshot> current = new AtomicReference<>(InventorySnapshot.empty());
+    private final AtomicLong versions = new AtomicLong();
+    private final Refresher<InventorySnapshot> refresher;
+
+    /** A non-positive {@code refreshInterval} disables background refresh; call {@link #refresh()} yourself. */
+    public DeviceInventory(DevicesApi devices, Duration refreshInterval) {
+        this.devices = Objects.requireNonNull(devices);
+        this.refresher = new Refresher<>(this::load, current::set, refreshInterval);
+    }
+
+    /** Loads the first snapshot (blocking) and starts the background refresh. */
+    public DeviceInventory start() throws Exception {
+        refresh();
+        refresher.scheduleNext();
+        return this;
+    }
+
+    /** Loads a new snapshot now; concurrent callers share one load. */
+    public InventorySnapshot refresh() throws Exception {
+        return Futures.await(refreshAsync());
+    }
+
+    public CompletableFuture<InventorySnapshot> refreshAsync() {
+        return refresher.refreshAsync();
+    }
+
+    /**
+     * Adds a listener called on the refreshing thread after every successful swap (e.g. to diff or
+     * persist), after those added earlier. Close the returned subscription to remove it.
+     */
+    public Subscription onSwap(Consumer<InventorySnapshot> listener) {
+        return refresher.onSwap(listener);
+    }
+
+    public InventorySnapshot snapshot() { return current.get(); }
+
+    public Optional<Device> byId(String id) { return current.get().byId(id); }
+    public Optional<Device> bySerial(String serial) { return current.get().bySerial(serial); }
+    public Optional<Device> byManagementIp(String ip) { return current.get().byManagementIp(ip); }
+    public Optional<Device> byHostname(String hostname) { return current.get().byHostname(hostname); }
+    public List<Device> byPlatformId(String platformId) { return current.get().byPlatformId(platformId); }
+
+    public List<String> idsByPlatformId(String platformId) {
+        return byPlatformId(platformId).stream().map(d -> d.id).filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
+    public long refreshCount() { return refresher.loadCount(); }
+    public long refreshFailureCount() { return refresher.failureCount(); }
+    /** onSwap listeners that threw; the others still ran. */
+    public long listenerFailureCount() { return refresher.listenerFailureCount(); }
+    /** Failure of the most recent refresh, or null if it succeeded. */
+    public Throwable lastFailure() { return refresher.lastFailure(); }
+
+    /** Stops background refresh; the last snapshot stays readable. */
+    @Override public void close() {
+        refresher.close();
+    }
+
+    private CompletableFuture<InventorySnapshot> load() {
+        return Futures.thenApply(devices.listAllAsync(),
+                list -> new InventorySnapshot(list, Instant.now(), versions.incrementAndGet()));
+    }
+}
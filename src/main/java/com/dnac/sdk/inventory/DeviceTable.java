@@ -0,0 +1,557 @@
+// com/dnac/sdk/inventory/DeviceTable.java
+package com.dnac.sdk.inventory;
+
+import com.dnac.sdk.model.device.Device;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Immutable column-per-field store for large device inventories; roughly a fifth of the heap of the
+ * equivalent {@code List<Device>}.
+ * <ul>
+ *   <li>type, softwareVersion and platformId ({@link Column}) are dictionary-encoded: one int code
+ *       per row, each distinct string stored once.</li>
+ *   <li>Canonical UUID ids are two longs; IPv4 management addresses are one packed int.</li>
+ *   <li>hostname and serialNumber are UTF-8 in a byte column with offsets; lastUpdated, when it is
+ *       DNAC's "yyyy-MM-dd HH:mm:ss", is an int of seconds and is formatted again on read.</li>
+ *   <li>With {@code offHeap} the columns live in direct buffers instead of arrays.</li>
+ * </ul>
+ * Filters and group-bys are tight loops over the int columns that return row {@link BitSet}s, which
+ * callers combine with {@code and}/{@code or}. {@link Row} is a reusable cursor over one row, so
+ * scanning never materializes a Device; {@link #get(int)} does when one is needed.
+ */
+public final class DeviceTable {
+
+    /** The dictionary-encoded, low-cardinality fields. */
+    public enum Column { TYPE, SOFTWARE_VERSION, PLATFORM_ID }
+
+    private static final DateTimeFormatter LAST_UPDATED = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final int size;
+    private final boolean offHeap;
+    private final Longs idHi, idLo;
+    private final Map<Integer, String> otherIds;        // rows whose id is not a canonical UUID
+    private final Ints ipv4;
+    private final Map<Integer, String> otherIps;        // rows with no IPv4 address (null or IPv6)
+    private final Ints[] codes = new Ints[Column.values().length];
+    private final Dictionary[] dictionaries = new Dictionary[Column.values().length];
+    private final Strings hostname, serialNumber;
+    private final Ints lastUpdated;
+    private final Map<Integer, String> otherLastUpdated; // rows whose lastUpdated doesn't round-trip
+    private final Longs lastUpdateTime;
+    private final int[] idIndex;                        // open addressing: row + 1, 0 = empty
+    private final Map<String, Integer> otherIdIndex;
+
+    private DeviceTable(Builder b) {
+        this.size = b.size;
+        this.offHeap = b.offHeap;
+        this.idHi = b.idHi.seal(size, offHeap);
+        this.idLo = b.idLo.seal(size, offHeap);
+        this.otherIds = Map.copyOf(b.otherIds);
+        this.ipv4 = b.ipv4.seal(size, offHeap);
+        this.otherIps = Collections.unmodifiableMap(new HashMap<>(b.otherIps)); // values may be null
+        for (Column c : Column.values()) {
+            codes[c.ordinal()] = b.codes[c.ordinal()].seal(size, offHeap);
+            dictionaries[c.ordinal()] = b.dictionaries[c.ordinal()];
+        }
+        this.hostname = b.hostname.seal(offHeap);
+        this.serialNumber = b.serialNumber.seal(offHeap);
+        this.lastUpdated = b.lastUpdated.seal(size, offHeap);
+        this.otherLastUpdated = Collections.unmodifiableMap(new HashMap<>(b.otherLastUpdated));
+        this.lastUpdateTime = b.lastUpdateTime.seal(size, offHeap);
+
+        this.idIndex = new int[Integer.highestOneBit(Math.max(1, size) * 2) << 1];
+        Map<String, Integer> other = new HashMap<>();
+        for (int row = 0; row < size; row++) {
+            String fallback = otherIds.get(row);
+            if (fallback != null) {
+                other.putIfAbsent(fallback, row);
+                continue;
+            }
+            if (idHi.get(row) == 0 && idLo.get(row) == 0) continue; // null id
+            int slot = slot(idHi.get(row), idLo.get(row));
+            while (idIndex[slot] != 0) slot = (slot + 1) & (idIndex.length - 1);
+            idIndex[slot] = row + 1;
+        }
+        this.otherIdIndex = Map.copyOf(other);
+    }
+
+    public static DeviceTable of(Collection<Device> devices) {
+        return of(devices, false);
+    }
+
+    public static DeviceTable of(Collection<Device> devices, boolean offHeap) {
+        Builder b = builder(devices.size()).offHeap(offHeap);
+        for (Device d : devices) b.add(d);
+        return b.build();
+    }
+
+    public static Builder builder(int expectedSize) {
+        return new Builder(expectedSize);
+    }
+
+    public int size() { return size; }
+    public boolean offHeap() { return offHeap; }
+
+    /** A new Device with this row's values. */
+    public Device get(int row) {
+        return new Row().at(row).toDevice();
+    }
+
+    /** A fresh cursor; position it with {@link Row#at(int)}. */
+    public Row row() { return new Row(); }
+
+    public OptionalInt rowOfId(String id) {
+        if (id == null) return OptionalInt.empty();
+        Integer other = otherIdIndex.get(id);
+        if (other != null) return OptionalInt.of(other);
+        UUID u = canonicalUuid(id);
+        if (u == null) return OptionalInt.empty();
+        long hi = u.getMostSignificantBits(), lo = u.getLeastSignificantBits();
+        for (int slot = slot(hi, lo); idIndex[slot] != 0; slot = (slot + 1) & (idIndex.length - 1)) {
+            int row = idIndex[slot] - 1;
+            if (idHi.get(row) == hi && idLo.get(row) == lo) return OptionalInt.of(row);
+        }
+        return OptionalInt.empty();
+    }
+
+    public Optional<Device> byId(String id) {
+        OptionalInt row = rowOfId(id);
+        return row.isPresent() ? Optional.of(get(row.getAsInt())) : Optional.empty();
+    }
+
+    /** Distinct non-null values of a column, in code order. */
+    public List<String> values(Column column) {
+        return dictionaries[column.ordinal()].values();
+    }
+
+    /** Rows whose value equals {@code value}. */
+    public BitSet select(Column column, String value) {
+        return select(column, value::equals);
+    }
+
+    /**
+     * Rows whose value matches; the predicate runs once per distinct value, not per row, and never
+     * sees null. E.g. {@code select(PLATFORM_ID, p -> p.startsWith("C9300"))}.
+     */
+    public BitSet select(Column column, Predicate<String> predicate) {
+        Dictionary dict = dictionaries[column.ordinal()];
+        boolean[] match = new boolean[dict.codeCount()];
+        for (int code = 1; code < match.length; code++) match[code] = predicate.test(dict.value(code));
+        return codes[column.ordinal()].matching(match, size);
+    }
+
+    /** Rows whose IPv4 management address lies in {@code cidr}, e.g. "10.20.0.0/16". */
+    public BitSet selectSubnet(String cidr) {
+        int slash = cidr.indexOf('/');
+        int prefix = slash < 0 ? 32 : Integer.parseInt(cidr.substring(slash + 1).trim());
+        OptionalInt net = packIpv4(slash < 0 ? cidr.trim() : cidr.substring(0, slash).trim());
+        if (net.isEmpty() || prefix < 0 || prefix > 32) throw new IllegalArgumentException("Not an IPv4 CIDR: " + cidr);
+        int mask = prefix == 0 ? 0 : -1 << (32 - prefix);
+        BitSet rows = ipv4.inSubnet(net.getAsInt() & mask, mask, size);
+        for (Integer row : otherIps.keySet()) rows.clear(row);
+        return rows;
+    }
+
+    /** Row count per value over the whole table, largest first; a null key counts rows without a value. */
+    public Map<String, Integer> countBy(Column column) {
+        return countBy(column, null);
+    }
+
+    /** Row count per value over {@code rows} (null = all rows), largest first. */
+    public Map<String, Integer> countBy(Column column, BitSet rows) {
+        Dictionary dict = dictionaries[column.ordinal()];
+        int[] counts = codes[column.ordinal()].histogram(dict.codeCount(), rows, size);
+        Integer[] order = new Integer[counts.length];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> Integer.compare(counts[b], counts[a]));
+        Map<String, Integer> out = new LinkedHashMap<>();
+        for (int code : order) {
+            if (counts[code] > 0) out.put(dict.value(code), counts[code]);
+        }
+        return out;
+    }
+
+    /** Visits {@code rows} (null = all) with one reused cursor; don't keep it past the callback. */
+    public void forEach(BitSet rows, Consumer<Row> action) {
+        Row cursor = new Row();
+        if (rows == null) {
+            for (int i = 0; i < size; i++) action.accept(cursor.at(i));
+        } else {
+            for (int i = rows.nextSetBit(0); i >= 0 && i < size; i = rows.nextSetBit(i + 1)) action.accept(cursor.at(i));
+        }
+    }
+
+    public List<Device> toDevices(BitSet rows) {
+        List<Device> out = new ArrayList<>(rows == null ? size : rows.cardinality());
+        forEach(rows, r -> out.add(r.toDevice()));
+        return out;
+    }
+
+    /** Bytes held by the columns on or off heap, excluding the id index, dictionaries and fallback maps. */
+    public long columnBytes() {
+        long b = idHi.bytes() + idLo.bytes() + ipv4.bytes() + lastUpdateTime.bytes()
+                + lastUpdated.bytes() + hostname.bytes() + serialNumber.bytes();
+        for (Ints c : codes) b += c.bytes();
+        return b;
+    }
+
+    /**
+     * Flyweight view of one row. Getters decode on demand; the codes and the packed address are
+     * available without creating strings.
+     */
+    public final class Row {
+        private int row = -1;
+
+        private Row() {}
+
+        public Row at(int row) {
+            this.row = Objects.checkIndex(row, size);
+            return this;
+        }
+
+        public int index() { return row; }
+
+        public String id() {
+            String other = otherIds.get(row);
+            if (other != null) return other;
+            long hi = idHi.get(row), lo = idLo.get(row);
+            return hi == 0 && lo == 0 ? null : new UUID(hi, lo).toString();
+        }
+
+        public String hostname() { return hostname.get(row); }
+        public String serialNumber() { return serialNumber.get(row); }
+        public String lastUpdated() {
+            return otherLastUpdated.containsKey(row) ? otherLastUpdated.get(row)
+                    : LAST_UPDATED.format(LocalDateTime.ofEpochSecond(lastUpdated.get(row), 0, ZoneOffset.UTC));
+        }
+
+        public Long lastUpdateTime() {
+            long v = lastUpdateTime.get(row);
+            return v == Long.MIN_VALUE ? null : v;
+        }
+
+        public boolean hasIpv4() { return !otherIps.containsKey(row); }
+
+        /** The packed IPv4 address; only meaningful when {@link #hasIpv4()}. */
+        public int ipv4() { return ipv4.get(row); }
+
+        public String managementIpAddress() {
+            return hasIpv4() ? unpackIpv4(ipv4.get(row)) : otherIps.get(row);
+        }
+
+        /** Dictionary code of a column; 0 means null. */
+        public int code(Column column) { return codes[column.ordinal()].get(row); }
+
+        public String value(Column column) { return dictionaries[column.ordinal()].value(code(column)); }
+
+        public String type() { return value(Column.TYPE); }
+        public String softwareVersion() { return value(Column.SOFTWARE_VERSION); }
+        public String platformId() { return value(Column.PLATFORM_ID); }
+
+        public Device toDevice() {
+            Device d = new Device();
+            d.id = id();
+            d.hostname = hostname();
+            d.managementIpAddress = managementIpAddress();
+            d.type = type();
+            d.softwareVersion = softwareVersion();
+            d.serialNumber = serialNumber();
+            d.platformId = platformId();
+            d.lastUpdateTime = lastUpdateTime();
+            d.lastUpdated = lastUpdated();
+            return d;
+        }
+    }
+
+    /** Appends devices row by row; {@link #build()} seals the columns into their final storage. */
+    public static final class Builder {
+        private int size;
+        private boolean offHeap;
+        private final Longs idHi, idLo, lastUpdateTime;
+        private final Ints ipv4;
+        private final Ints[] codes = new Ints[Column.values().length];
+        private final Dictionary[] dictionaries = new Dictionary[Column.values().length];
+        private final Strings hostname, serialNumber;
+        private final Ints lastUpdated;
+        private final Map<Integer, String> otherLastUpdated = new HashMap<>();
+        private final Map<Integer, String> otherIds = new HashMap<>();
+        private final Map<Integer, String> otherIps = new HashMap<>();
+
+        private Builder(int expectedSize) {
+            int n = Math.max(16, expectedSize);
+            idHi = new Longs(n); idLo = new Longs(n); lastUpdateTime = new Longs(n);
+            ipv4 = new Ints(n); lastUpdated = new Ints(n);
+            for (Column c : Column.values()) {
+                codes[c.ordinal()] = new Ints(n);
+                dictionaries[c.ordinal()] = new Dictionary();
+            }
+            hostname = new Strings(n, 24); serialNumber = new Strings(n, 12);
+        }
+
+        /** Direct buffers instead of arrays: the columns leave the Java heap (and GC scanning) entirely. */
+        public Builder offHeap(boolean offHeap) {
+            this.offHeap = offHeap;
+            return this;
+        }
+
+        public Builder add(Device d) {
+            int row = size++;
+            UUID u = canonicalUuid(d.id);
+            if (u != null && (u.getMostSignificantBits() != 0 || u.getLeastSignificantBits() != 0)) {
+                idHi.add(u.getMostSignificantBits());
+                idLo.add(u.getLeastSignificantBits());
+            } else {
+                idHi.add(0);
+                idLo.add(0);
+                if (d.id != null) otherIds.put(row, d.id);
+            }
+            OptionalInt ip = packIpv4(d.managementIpAddress);
+            ipv4.add(ip.orElse(0));
+            if (ip.isEmpty()) otherIps.put(row, d.managementIpAddress);
+            codes[Column.TYPE.ordinal()].add(dictionaries[Column.TYPE.ordinal()].code(d.type));
+            codes[Column.SOFTWARE_VERSION.ordinal()].add(dictionaries[Column.SOFTWARE_VERSION.ordinal()].code(d.softwareVersion));
+            codes[Column.PLATFORM_ID.ordinal()].add(dictionaries[Column.PLATFORM_ID.ordinal()].code(d.platformId));
+            hostname.add(d.hostname);
+            serialNumber.add(d.serialNumber);
+            OptionalInt seconds = packLastUpdated(d.lastUpdated);
+            lastUpdated.add(seconds.orElse(0));
+            if (seconds.isEmpty()) otherLastUpdated.put(row, d.lastUpdated);
+            lastUpdateTime.add(d.lastUpdateTime == null ? Long.MIN_VALUE : d.lastUpdateTime);
+            return this;
+        }
+
+        public DeviceTable build() {
+            return new DeviceTable(this);
+        }
+    }
+
+    // --- helpers ---
+
+    private int slot(long hi, long lo) {
+        long h = (hi ^ lo) * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & (idIndex.length - 1);
+    }
+
+    private static UUID canonicalUuid(String s) {
+        if (s == null || s.length() != 36) return null;
+        try {
+            UUID u = UUID.fromString(s);
+            return u.toString().equals(s) ? u : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    static OptionalInt packIpv4(String s) {
+        if (s == null || s.isEmpty()) return OptionalInt.empty();
+        int ip = 0, octet = -1, dots = 0;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '.') {
+                if (octet < 0 || ++dots > 3) return OptionalInt.empty();
+                ip = ip << 8 | octet;
+                octet = -1;
+            } else if (c >= '0' && c <= '9') {
+                if (octet == 0) return OptionalInt.empty(); // leading zero: not canonical
+                octet = (octet < 0 ? 0 : octet * 10) + (c - '0');
+                if (octet > 255) return OptionalInt.empty();
+            } else {
+                return OptionalInt.empty();
+            }
+        }
+        if (dots != 3 || octet < 0) return OptionalInt.empty();
+        return OptionalInt.of(ip << 8 | octet);
+    }
+
+    // Only values that format back to the identical string are packed.
+    private static OptionalInt packLastUpdated(String s) {
+        if (s == null || s.length() != 19) return OptionalInt.empty();
+        try {
+            long secs = LocalDateTime.parse(s, LAST_UPDATED).toEpochSecond(ZoneOffset.UTC);
+            if (secs != (int) secs) return OptionalInt.empty();
+            return LAST_UPDATED.format(LocalDateTime.ofEpochSecond(secs, 0, ZoneOffset.UTC)).equals(s)
+                    ? OptionalInt.of((int) secs) : OptionalInt.empty();
+        } catch (DateTimeParseException e) {
+            return OptionalInt.empty();
+        }
+    }
+
+    static String unpackIpv4(int ip) {
+        return (ip >>> 24) + "." + (ip >>> 16 & 255) + "." + (ip >>> 8 & 255) + "." + (ip & 255);
+    }
+
+    /** Code 0 is null; other values get codes in first-seen order. */
+    private static final class Dictionary {
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<String> values = new ArrayList<>(List.of(""));
+
+        int code(String value) {
+            if (value == null) return 0;
+            return codes.computeIfAbsent(value, v -> {
+                values.add(v);
+                return values.size() - 1;
+            });
+        }
+
+        String value(int code) { return code == 0 ? null : values.get(code); }
+        int codeCount() { return values.size(); }
+        List<String> values() { return List.copyOf(values.subList(1, values.size())); }
+    }
+
+    /** An int column: a growable array while building, then a trimmed array or a direct buffer. */
+    private static final class Ints {
+        private int[] array;
+        private ByteBuffer buffer;
+        private int n;
+
+        Ints(int capacity) { array = new int[capacity]; }
+
+        private Ints(int[] array, ByteBuffer buffer) { this.array = array; this.buffer = buffer; }
+
+        void add(int v) {
+            if (n == array.length) array = Arrays.copyOf(array, n + (n >> 1) + 1);
+            array[n++] = v;
+        }
+
+        Ints seal(int size, boolean offHeap) {
+            if (!offHeap) return new Ints(Arrays.copyOf(array, size), null);
+            ByteBuffer b = ByteBuffer.allocateDirect(size * 4).order(ByteOrder.nativeOrder());
+            b.asIntBuffer().put(array, 0, size);
+            return new Ints(null, b);
+        }
+
+        int get(int i) { return array != null ? array[i] : buffer.getInt(i << 2); }
+
+        long bytes() { return array != null ? 16L + 4L * array.length : buffer.capacity(); }
+
+        BitSet matching(boolean[] match, int size) {
+            long[] words = new long[(size + 63) >>> 6];
+            if (array != null) {
+                int[] a = array;
+                for (int i = 0; i < size; i++) if (match[a[i]]) words[i >>> 6] |= 1L << i;
+            } else {
+                ByteBuffer b = buffer;
+                for (int i = 0; i < size; i++) if (match[b.getInt(i << 2)]) words[i >>> 6] |= 1L << i;
+            }
+            return BitSet.valueOf(words);
+        }
+
+        BitSet inSubnet(int net, int mask, int size) {
+            long[] words = new long[(size + 63) >>> 6];
+            if (array != null) {
+                int[] a = array;
+                for (int i = 0; i < size; i++) if ((a[i] & mask) == net) words[i >>> 6] |= 1L << i;
+            } else {
+                ByteBuffer b = buffer;
+                for (int i = 0; i < size; i++) if ((b.getInt(i << 2) & mask) == net) words[i >>> 6] |= 1L << i;
+            }
+            return BitSet.valueOf(words);
+        }
+
+        int[] histogram(int codeCount, BitSet rows, int size) {
+            int[] counts = new int[codeCount];
+            if (rows == null) {
+                if (array != null) {
+                    int[] a = array;
+                    for (int i = 0; i < size; i++) counts[a[i]]++;
+                } else {
+                    for (int i = 0; i < size; i++) counts[buffer.getInt(i << 2)]++;
+                }
+            } else {
+                for (int i = rows.nextSetBit(0); i >= 0 && i < size; i = rows.nextSetBit(i + 1)) counts[get(i)]++;
+            }
+            return counts;
+        }
+    }
+
+    private static final class Longs {
+        private long[] array;
+        private ByteBuffer buffer;
+        private int n;
+
+        Longs(int capacity) { array = new long[capacity]; }
+
+        private Longs(long[] array, ByteBuffer buffer) { this.array = array; this.buffer = buffer; }
+
+        void add(long v) {
+            if (n == array.length) array = Arrays.copyOf(array, n + (n >> 1) + 1);
+            array[n++] = v;
+        }
+
+        Longs seal(int size, boolean offHeap) {
+            if (!offHeap) return new Longs(Arrays.copyOf(array, size), null);
+            ByteBuffer b = ByteBuffer.allocateDirect(size * 8).order(ByteOrder.nativeOrder());
+            b.asLongBuffer().put(array, 0, size);
+            return new Longs(null, b);
+        }
+
+        long get(int i) { return array != null ? array[i] : buffer.getLong(i << 3); }
+
+        long bytes() { return array != null ? 16L + 8L * array.length : buffer.capacity(); }
+    }
+
+    /** Variable-length UTF-8 values back to back; offsets[i]..offsets[i+1], a negative start marks null. */
+    private static final class Strings {
+        private byte[] data;
+        private ByteBuffer buffer;
+        private int[] offsets;      // size + 1 entries once sealed
+        private int n, used;
+
+        Strings(int capacity, int avgLength) {
+            data = new byte[capacity * avgLength];
+            offsets = new int[capacity + 1];
+        }
+
+        private Strings(byte[] data, ByteBuffer buffer, int[] offsets) {
+            this.data = data; this.buffer = buffer; this.offsets = offsets;
+        }
+
+        void add(String s) {
+            if (n + 1 == offsets.length) offsets = Arrays.copyOf(offsets, offsets.length + (offsets.length >> 1) + 1);
+            if (s == null) {
+                offsets[n] = ~used;
+            } else {
+                byte[] utf8 = s.getBytes(StandardCharsets.UTF_8);
+                if (used + utf8.length > data.length) data = Arrays.copyOf(data, Math.max(used + utf8.length, data.length + (data.length >> 1)));
+                offsets[n] = used;
+                System.arraycopy(utf8, 0, data, used, utf8.length);
+                used += utf8.length;
+            }
+            n++;
+        }
+
+        Strings seal(boolean offHeap) {
+            int[] offs = Arrays.copyOf(offsets, n + 1);
+            offs[n] = used;
+            if (!offHeap) return new Strings(Arrays.copyOf(data, used), null, offs);
+            ByteBuffer b = ByteBuffer.allocateDirect(used);
+            b.put(data, 0, used).flip();
+            return new Strings(null, b, offs);
+        }
+
+        String get(int i) {
+            int start = offsets[i];
+            if (start < 0) return null;
+            int next = offsets[i + 1];
+            int end = next < 0 ? ~next : next;
+            if (data != null) return new String(data, start, end - start, StandardCharsets.UTF_8);
+            byte[] tmp = new byte[end - start];
+            buffer.get(start, tmp);
+            return new String(tmp, StandardCharsets.UTF_8);
+        }
+
+        long bytes() {
+            return 16L + 4L * offsets.length + (data != null ? 16L + data.length : buffer.capacity());
+        }
+    }
+}
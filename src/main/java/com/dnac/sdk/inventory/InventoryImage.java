@@ -0,0 +1,21 @@
+// com/dnac/sdk/inventory/InventoryImage.java
+package com.dnac.sdk.inventory;
+
+import com.dnac.sdk.model.device.Device;
+import com.dnac.sdk.model.site.Site;
+import com.dnac.sdk.model.template.Project;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Devices, sites and template projects (with their templates) as captured from DNAC at
+ * {@code capturedAt}. This is what {@link InventoryStore} persists; the lists are read-only.
+ */
+public record InventoryImage(List<Device> devices, List<Site> sites, List<Project> projects, Instant capturedAt) {
+    public InventoryImage {
+        devices = List.copyOf(devices);
+        sites = List.copyOf(sites);
+        projects = List.copyOf(projects);
+    }
+}
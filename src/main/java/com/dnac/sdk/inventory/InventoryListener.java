@@ -0,0 +1,10 @@
+// com/dnac/sdk/inventory/InventoryListener.java
+package com.dnac.sdk.inventory;
+
+import java.util.List;
+
+@FunctionalInterface
+public interface InventoryListener {
+    /** Called once per sync that found differences, with the snapshot they lead to. */
+    void onChanges(List<DeviceChangeEvent> changes, InventorySnapshot snapshot);
+}
@@ -0,0 +1,73 @@
+// com/dnac/sdk/inventory/InventorySnapshot.java
+package com.dnac.sdk.inventory;
+
+import com.dnac.sdk.model.device.Device;
+
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * One immutable, fully indexed copy of the device inventory. Built off to the side and published
+ * with a single reference swap, so readers never see a half-built index. The Device instances are
+ * shared by every reader and must be treated as read-only.
+ */
+public final class InventorySnapshot {
+    private static final InventorySnapshot EMPTY = new InventorySnapshot(List.of(), Instant.EPOCH, 0);
+
+    private final List<Device> devices;
+    private final Instant loadedAt;
+    private final long version;
+    private final Map<String, Device> byId;
+    private final Map<String, Device> bySerial;
+    private final Map<String, Device> byIp;
+    private final Map<String, Device> byHostname;          // lower-cased keys
+    private final Map<String, List<Device>> byPlatformId;
+
+    public InventorySnapshot(List<Device> devices, Instant loadedAt, long version) {
+        this.devices = List.copyOf(devices);
+        this.loadedAt = loadedAt;
+        this.version = version;
+        int cap = devices.size() * 4 / 3 + 1;
+        Map<String, Device> id = new HashMap<>(cap), serial = new HashMap<>(cap), ip = new HashMap<>(cap), host = new HashMap<>(cap);
+        Map<String, List<Device>> platform = new HashMap<>();
+        for (Device d : this.devices) {
+            put(id, d.id, d);
+            put(serial, d.serialNumber, d);
+            put(ip, d.managementIpAddress, d);
+            put(host, d.hostname == null ? null : d.hostname.toLowerCase(Locale.ROOT), d);
+            if (d.platformId != null) {
+                // DNAC reports stacks as a comma-separated list; index every member platform.
+                for (String p : d.platformId.split(",")) {
+                    if (!p.isBlank()) platform.computeIfAbsent(p.trim(), k -> new ArrayList<>()).add(d);
+                }
+            }
+        }
+        platform.replaceAll((k, v) -> List.copyOf(v));
+        this.byId = id; this.bySerial = serial; this.byIp = ip; this.byHostname = host;
+        this.byPlatformId = platform;
+    }
+
+    public static InventorySnapshot empty() { return EMPTY; }
+
+    public Optional<Device> byId(String id) { return Optional.ofNullable(id == null ? null : byId.get(id)); }
+    public Optional<Device> bySerial(String serial) { return Optional.ofNullable(serial == null ? null : bySerial.get(serial)); }
+    public Optional<Device> byManagementIp(String ip) { return Optional.ofNullable(ip == null ? null : byIp.get(ip)); }
+
+    public Optional<Device> byHostname(String hostname) {
+        return Optional.ofNullable(hostname == null ? null : byHostname.get(hostname.toLowerCase(Locale.ROOT)));
+    }
+
+    public List<Device> byPlatformId(String platformId) {
+        return platformId == null ? List.of() : byPlatformId.getOrDefault(platformId, List.of());
+    }
+
+    public List<Device> devices() { return devices; }
+    public int size() { return devices.size(); }
+    public Instant loadedAt() { return loadedAt; }
+    /** Increases by one per successful load; 0 means nothing has been loaded yet. */
+    public long version() { return version; }
+
+    private static void put(Map<String, Device> index, String key, Device d) {
+        if (key != null && !key.isEmpty()) index.putIfAbsent(key, d);
+    }
+}
@@ -0,0 +1,344 @@
+// com/dnac/sdk/inventory/InventoryStore.java
+package com.dnac.sdk.inventory;
+
+import com.dnac.sdk.model.device.Device;
+import com.dnac.sdk.model.site.Site;
+import com.dnac.sdk.model.template.Project;
+import com.dnac.sdk.model.template.Template;
+import com.dnac.sdk.http.JsonSupport;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.CRC32C;
+
+/**
+ * Persists an {@link InventoryImage} to one compact binary file and maps it back in on startup.
+ * <p>
+ * Layout (big-endian): magic {@code DNACINV\0}, format version (int), captured-at epoch millis
+ * (long), payload length (long), CRC32C of the payload (long), then the payload: a string table
+ * (every distinct string once, so repeated platform ids, versions and hierarchies cost 4 bytes
+ * per use) followed by the device, site and project sections, where strings are table indexes.
+ * <p>
+ * {@link #load()} refuses a file that is missing, from another format version, older than
+ * {@code maxAge}, truncated, or fails the checksum; the caller then falls back to DNAC. Saves go
+ * to a temp file that is forced to disk and atomically renamed, so a crash never leaves a torn file.
+ */
+public final class InventoryStore {
+    public static final int FORMAT_VERSION = 1;
+
+    private static final byte[] MAGIC = {'D', 'N', 'A', 'C', 'I', 'N', 'V', 0};
+    private static final int HEADER_BYTES = MAGIC.length + 4 + 8 + 8 + 8;
+    private static final TypeReference<List<Object>> OBJECT_LIST = new TypeReference<>() {};
+
+    private final Path file;
+    private final Duration maxAge;
+    private final ObjectReader infoReader; // Site.additionalInfo is free-form JSON
+    private final ObjectWriter infoWriter;
+
+    private final LongAdder saves = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+    private volatile String lastRejection;
+    private volatile long lastLoadNanos;
+
+    /** A null or non-positive {@code maxAge} accepts a file of any age. */
+    public InventoryStore(Path file, Duration maxAge, JsonSupport json) {
+        this.file = Objects.requireNonNull(file);
+        this.maxAge = maxAge;
+        this.infoReader = json.reader(json.type(OBJECT_LIST));
+        this.infoWriter = json.writer(List.class);
+    }
+
+    public Path file() { return file; }
+
+    public void save(InventoryImage image) throws IOException {
+        byte[] payload = encode(image);
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES)
+                .put(MAGIC)
+                .putInt(FORMAT_VERSION)
+                .putLong(image.capturedAt().toEpochMilli())
+                .putLong(payload.length)
+                .putLong(crc.getValue())
+                .flip();
+
+        Path dir = file.toAbsolutePath().getParent();
+        if (dir != null) Files.createDirectories(dir);
+        Path tmp = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel ch = FileChannel.open(tmp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer body = ByteBuffer.wrap(payload);
+                while (header.hasRemaining()) ch.write(header);
+                while (body.hasRemaining()) ch.write(body);
+                ch.force(true);
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            saves.increment();
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    /** The persisted image, or empty when there is no usable file ({@link #lastRejection()} says why). */
+    public Optional<InventoryImage> load() {
+        long start = System.nanoTime();
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = ch.size();
+            if (size < HEADER_BYTES) return reject("truncated header");
+            MappedByteBuffer buf = ch.map(FileChannel.MapMode.READ_ONLY, 0, size);
+
+            byte[] magic = new byte[MAGIC.length];
+            buf.get(magic);
+            if (!Arrays.equals(magic, MAGIC)) return reject("not an inventory snapshot");
+            int version = buf.getInt();
+            if (version != FORMAT_VERSION) return reject("format version " + version + ", expected " + FORMAT_VERSION);
+            Instant capturedAt = Instant.ofEpochMilli(buf.getLong());
+            long length = buf.getLong();
+            long checksum = buf.getLong();
+
+            if (maxAge != null && !maxAge.isZero() && !maxAge.isNegative()
+                    && capturedAt.plus(maxAge).isBefore(Instant.now())) {
+                return reject("stale: captured " + capturedAt);
+            }
+            if (length != size - HEADER_BYTES) return reject("payload is " + (size - HEADER_BYTES) + " bytes, header says " + length);
+
+            ByteBuffer payload = buf.slice(HEADER_BYTES, (int) length);
+            CRC32C crc = new CRC32C();
+            crc.update(payload.duplicate());
+            if (crc.getValue() != checksum) return reject("checksum mismatch");
+
+            InventoryImage image = decode(payload, capturedAt);
+            loads.increment();
+            lastRejection = null;
+            return Optional.of(image);
+        } catch (NoSuchFileException e) {
+            return reject("no snapshot file");
+        } catch (IOException | BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            return reject("unreadable: " + e);
+        } finally {
+            lastLoadNanos = System.nanoTime() - start;
+        }
+    }
+
+    public long saveCount() { return saves.sum(); }
+    public long loadCount() { return loads.sum(); }
+    public long rejectionCount() { return rejections.sum(); }
+    /** Why the last {@link #load()} returned empty, or null if it succeeded. */
+    public String lastRejection() { return lastRejection; }
+    /** Wall time of the last {@link #load()}, mapping and checksum included. */
+    public Duration lastLoadTime() { return Duration.ofNanos(lastLoadNanos); }
+
+    private Optional<InventoryImage> reject(String reason) {
+        rejections.increment();
+        lastRejection = reason;
+        return Optional.empty();
+    }
+
+    // --- encoding ---
+
+    private byte[] encode(InventoryImage image) throws IOException {
+        Strings strings = new Strings();
+        ByteArrayOutputStream bodyBytes = new ByteArrayOutputStream(64 + image.devices().size() * 40);
+        DataOutputStream out = new DataOutputStream(bodyBytes);
+
+        out.writeInt(image.devices().size());
+        for (Device d : image.devices()) {
+            out.writeInt(strings.ref(d.id));
+            out.writeInt(strings.ref(d.hostname));
+            out.writeInt(strings.ref(d.managementIpAddress));
+            out.writeInt(strings.ref(d.type));
+            out.writeInt(strings.ref(d.softwareVersion));
+            out.writeInt(strings.ref(d.serialNumber));
+            out.writeInt(strings.ref(d.platformId));
+            writeLong(out, d.lastUpdateTime);
+            out.writeInt(strings.ref(d.lastUpdated));
+        }
+        out.writeInt(image.sites().size());
+        for (Site s : image.sites()) {
+            out.writeInt(strings.ref(s.id));
+            out.writeInt(strings.ref(s.name));
+            out.writeInt(strings.ref(s.instanceTenantId));
+            out.writeInt(strings.ref(s.siteHierarchy));
+            out.writeInt(strings.ref(s.siteNameHierarchy));
+            out.writeInt(strings.ref(s.additionalInfo == null ? null : infoWriter.writeValueAsString(s.additionalInfo)));
+        }
+        out.writeInt(image.projects().size());
+        for (Project p : image.projects()) {
+            out.writeInt(strings.ref(p.id));
+            out.writeInt(strings.ref(p.name));
+            out.writeInt(strings.ref(p.description));
+            writeLong(out, p.lastUpdateTime);
+            writeBool(out, p.isDeletable);
+            List<Template> templates = p.templates == null ? List.of() : p.templates;
+            out.writeInt(p.templates == null ? -1 : templates.size());
+            for (Template t : templates) {
+                out.writeInt(strings.ref(t.id));
+                out.writeInt(strings.ref(t.name));
+                out.writeInt(strings.ref(t.language));
+                writeBool(out, t.composite);
+                writeBool(out, t.customParamsOrder);
+                writeLong(out, t.lastUpdateTime);
+                writeLong(out, t.latestVersionTime);
+                out.writeInt(strings.ref(t.projectName));
+                out.writeInt(strings.ref(t.projectId));
+                out.writeInt(t.noOfConflicts == null ? Integer.MIN_VALUE : t.noOfConflicts);
+                writeBool(out, t.projectAssociated);
+                writeBool(out, t.documentDatabase);
+            }
+        }
+        out.flush();
+
+        ByteArrayOutputStream all = new ByteArrayOutputStream(strings.bytes + bodyBytes.size() + 16);
+        DataOutputStream w = new DataOutputStream(all);
+        w.writeInt(strings.list.size());
+        for (byte[] s : strings.list) {
+            w.writeInt(s.length);
+            w.write(s);
+        }
+        bodyBytes.writeTo(w);
+        w.flush();
+        return all.toByteArray();
+    }
+
+    // Nulls are -1; everything else is interned once per file.
+    private static final class Strings {
+        final Map<String, Integer> index = new HashMap<>();
+        final List<byte[]> list = new ArrayList<>();
+        int bytes;
+
+        int ref(String s) {
+            if (s == null) return -1;
+            Integer i = index.get(s);
+            if (i != null) return i;
+            byte[] utf8 = s.getBytes(StandardCharsets.UTF_8);
+            list.add(utf8);
+            bytes += 4 + utf8.length;
+            index.put(s, list.size() - 1);
+            return list.size() - 1;
+        }
+    }
+
+    private static void writeLong(DataOutputStream out, Long v) throws IOException {
+        out.writeLong(v == null ? Long.MIN_VALUE : v);
+    }
+
+    private static void writeBool(DataOutputStream out, Boolean v) throws IOException {
+        out.writeByte(v == null ? 0 : v ? 2 : 1);
+    }
+
+    // --- decoding ---
+
+    private InventoryImage decode(ByteBuffer in, Instant capturedAt) throws IOException {
+        String[] strings = new String[count(in)];
+        for (int i = 0; i < strings.length; i++) {
+            int len = in.getInt();
+            if (len < 0 || len > in.remaining()) throw new IOException("bad string length " + len);
+            byte[] utf8 = new byte[len];
+            in.get(utf8);
+            strings[i] = new String(utf8, StandardCharsets.UTF_8);
+        }
+
+        int deviceCount = count(in);
+        List<Device> devices = new ArrayList<>(deviceCount);
+        for (int i = 0; i < deviceCount; i++) {
+            Device d = new Device();
+            d.id = str(strings, in);
+            d.hostname = str(strings, in);
+            d.managementIpAddress = str(strings, in);
+            d.type = str(strings, in);
+            d.softwareVersion = str(strings, in);
+            d.serialNumber = str(strings, in);
+            d.platformId = str(strings, in);
+            d.lastUpdateTime = readLong(in);
+            d.lastUpdated = str(strings, in);
+            devices.add(d);
+        }
+
+        int siteCount = count(in);
+        List<Site> sites = new ArrayList<>(siteCount);
+        for (int i = 0; i < siteCount; i++) {
+            Site s = new Site();
+            s.id = str(strings, in);
+            s.name = str(strings, in);
+            s.instanceTenantId = str(strings, in);
+            s.siteHierarchy = str(strings, in);
+            s.siteNameHierarchy = str(strings, in);
+            String info = str(strings, in);
+            s.additionalInfo = info == null ? null : infoReader.readValue(info);
+            sites.add(s);
+        }
+
+        int projectCount = count(in);
+        List<Project> projects = new ArrayList<>(projectCount);
+        for (int i = 0; i < projectCount; i++) {
+            Project p = new Project();
+            p.id = str(strings, in);
+            p.name = str(strings, in);
+            p.description = str(strings, in);
+            p.lastUpdateTime = readLong(in);
+            p.isDeletable = readBool(in);
+            int templateCount = in.getInt();
+            if (templateCount >= 0) {
+                if (templateCount > in.remaining()) throw new IOException("bad count " + templateCount);
+                p.templates = new ArrayList<>(templateCount);
+                for (int j = 0; j < templateCount; j++) {
+                    Template t = new Template();
+                    t.id = str(strings, in);
+                    t.name = str(strings, in);
+                    t.language = str(strings, in);
+                    t.composite = readBool(in);
+                    t.customParamsOrder = readBool(in);
+                    t.lastUpdateTime = readLong(in);
+                    t.latestVersionTime = readLong(in);
+                    t.projectName = str(strings, in);
+                    t.projectId = str(strings, in);
+                    int conflicts = in.getInt();
+                    t.noOfConflicts = conflicts == Integer.MIN_VALUE ? null : conflicts;
+                    t.projectAssociated = readBool(in);
+                    t.documentDatabase = readBool(in);
+                    p.templates.add(t);
+                }
+            }
+            projects.add(p);
+        }
+        if (in.hasRemaining()) throw new IOException(in.remaining() + " trailing bytes");
+        return new InventoryImage(devices, sites, projects, capturedAt);
+    }
+
+    private static int count(ByteBuffer in) throws IOException {
+        int n = in.getInt();
+        if (n < 0 || n > in.remaining()) throw new IOException("bad count " + n);
+        return n;
+    }
+
+    private static String str(String[] strings, ByteBuffer in) {
+        int i = in.getInt();
+        return i < 0 ? null : strings[i];
+    }
+
+    private static Long readLong(ByteBuffer in) {
+        long v = in.getLong();
+        return v == Long.MIN_VALUE ? null : v;
+    }
+
+    private static Boolean readBool(ByteBuffer in) {
+        byte b = in.get();
+        return b == 0 ? null : b == 2;
+    }
+}
@@ -0,0 +1,140 @@
+// com/dnac/sdk/inventory/InventorySyncEngine.java
+package com.dnac.sdk.inventory;
+
+import com.dnac.sdk.model.device.Device;
+
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Turns successive inventory snapshots into added/removed/changed events.
+ * <p>
+ * Between syncs it keeps a fingerprint per device id plus a reference to the previous snapshot,
+ * whose id index supplies the {@code before} side of CHANGED and REMOVED events. When both sides
+ * carry DNAC's {@code lastUpdateTime} that alone decides whether a device changed; otherwise a
+ * 64-bit hash of the record's fields does. Listeners therefore see only the deltas, and anything that fetches
+ * per-device detail can limit itself to the devices named in the events.
+ */
+public final class InventorySyncEngine implements Consumer<InventorySnapshot> {
+    private record Fingerprint(Long lastUpdateTime, long contentHash) {}
+
+    private final List<InventoryListener> listeners = new CopyOnWriteArrayList<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private Map<String, Fingerprint> fingerprints = new HashMap<>(); // guarded by lock
+    private InventorySnapshot previous = InventorySnapshot.empty();  // guarded by lock
+    private volatile Subscription attachment;
+
+    private final LongAdder syncs = new LongAdder();
+    private final LongAdder added = new LongAdder();
+    private final LongAdder removed = new LongAdder();
+    private final LongAdder changed = new LongAdder();
+    private final LongAdder listenerFailures = new LongAdder();
+
+    /** Creates an engine fed by every snapshot the inventory swaps in, alongside its other listeners. */
+    public static InventorySyncEngine attach(DeviceInventory inventory) {
+        InventorySyncEngine engine = new InventorySyncEngine();
+        engine.attachment = inventory.onSwap(engine);
+        return engine;
+    }
+
+    /** Stops receiving snapshots from the inventory this engine was attached to. */
+    public void detach() {
+        Subscription s = attachment;
+        if (s != null) s.close();
+    }
+
+    public void addListener(InventoryListener l) { listeners.add(Objects.requireNonNull(l)); }
+    public void removeListener(InventoryListener l) { listeners.remove(l); }
+
+    @Override public void accept(InventorySnapshot snapshot) {
+        sync(snapshot);
+    }
+
+    /** Diffs {@code snapshot} against the last one seen and notifies listeners; the first sync reports every device as ADDED. */
+    public List<DeviceChangeEvent> sync(InventorySnapshot snapshot) {
+        List<DeviceChangeEvent> events = new ArrayList<>();
+        lock.lock();
+        try {
+            Map<String, Fingerprint> nextPrints = new HashMap<>(snapshot.size() * 4 / 3 + 1);
+            for (Device d : snapshot.devices()) {
+                // first record per id wins, as in the snapshot's own index
+                if (d.id == null || d.id.isEmpty() || nextPrints.containsKey(d.id)) continue;
+                Fingerprint fp = fingerprint(d);
+                nextPrints.put(d.id, fp);
+                Fingerprint old = fingerprints.get(d.id);
+                if (old == null) {
+                    events.add(new DeviceChangeEvent(DeviceChangeEvent.Type.ADDED, null, d, snapshot.version()));
+                } else if (!same(old, fp)) {
+                    events.add(new DeviceChangeEvent(DeviceChangeEvent.Type.CHANGED,
+                            previous.byId(d.id).orElse(null), d, snapshot.version()));
+                }
+            }
+            for (String id : fingerprints.keySet()) {
+                if (!nextPrints.containsKey(id)) {
+                    events.add(new DeviceChangeEvent(DeviceChangeEvent.Type.REMOVED,
+                            previous.byId(id).orElse(null), null, snapshot.version()));
+                }
+            }
+            fingerprints = nextPrints;
+            previous = snapshot;
+        } finally {
+            lock.unlock();
+        }
+
+        syncs.increment();
+        for (DeviceChangeEvent e : events) {
+            switch (e.type()) {
+                case ADDED -> added.increment();
+                case REMOVED -> removed.increment();
+                case CHANGED -> changed.increment();
+            }
+        }
+        if (!events.isEmpty()) {
+            List<DeviceChangeEvent> view = Collections.unmodifiableList(events);
+            for (InventoryListener l : listeners) {
+                try {
+                    l.onChanges(view, snapshot);
+                } catch (RuntimeException ex) {
+                    listenerFailures.increment(); // one bad listener must not starve the rest
+                }
+            }
+        }
+        return events;
+    }
+
+    public long syncCount() { return syncs.sum(); }
+    public long addedCount() { return added.sum(); }
+    public long removedCount() { return removed.sum(); }
+    public long changedCount() { return changed.sum(); }
+    public long listenerFailureCount() { return listenerFailures.sum(); }
+
+    private static boolean same(Fingerprint a, Fingerprint b) {
+        if (a.lastUpdateTime() != null && b.lastUpdateTime() != null) {
+            return a.lastUpdateTime().equals(b.lastUpdateTime());
+        }
+        return a.contentHash() == b.contentHash();
+    }
+
+    private static Fingerprint fingerprint(Device d) {
+        // Always hashed: the other side may lack lastUpdateTime (a device gaining or losing it), and
+        // then the hashes must be comparable. lastUpdateTime itself stays out so that alone is no change.
+        long h = 0xcbf29ce484222325L; // FNV-1a over every other modelled field
+        for (String f : new String[]{d.id, d.hostname, d.managementIpAddress, d.type, d.softwareVersion,
+                d.serialNumber, d.platformId, d.lastUpdated}) {
+            h = mix(h, f == null ? "\0" : f);
+        }
+        return new Fingerprint(d.lastUpdateTime, h);
+    }
+
+    private static long mix(long h, String s) {
+        for (int i = 0; i < s.length(); i++) {
+            h ^= s.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= 0x1f; // field separator
+        return h * 0x100000001b3L;
+    }
+}
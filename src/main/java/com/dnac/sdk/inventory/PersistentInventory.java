@@ -0,0 +1,153 @@
+// com/dnac/sdk/inventory/PersistentInventory.java
+package com.dnac.sdk.inventory;
+
+import com.dnac.sdk.api.DevicesApi;
+import com.dnac.sdk.api.SitesApi;
+import com.dnac.sdk.api.TemplatesApi;
+import com.dnac.sdk.http.Futures;
+import com.dnac.sdk.model.device.Device;
+import com.dnac.sdk.model.site.Site;
+import com.dnac.sdk.model.template.Project;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Device, site and template inventory that survives restarts.
+ * <p>
+ * {@link #start()} serves the last {@link InventoryStore} snapshot straight away when the store
+ * accepts it (fresh enough, intact) and reconciles with DNAC in the background; only without a
+ * usable file does it wait for DNAC. Every successful reconcile swaps in the new image and writes
+ * it back to the store, then repeats every {@code refreshInterval}. A failed reconcile keeps
+ * serving what it has.
+ */
+public final class PersistentInventory implements AutoCloseable {
+    private record State(InventoryImage image, InventorySnapshot devices, boolean fromDisk) {}
+
+    private final DevicesApi devicesApi;
+    private final SitesApi sitesApi;
+    private final TemplatesApi templatesApi;
+    private final InventoryStore store;
+
+    private final AtomicReference<State> current = new AtomicReference<>();
+    private final AtomicLong versions = new AtomicLong();
+    private final LongAdder saveFailures = new LongAdder();
+    private final Refresher<InventoryImage> refresher;
+
+    /** A non-positive {@code refreshInterval} reconciles once at start only. */
+    public PersistentInventory(DevicesApi devices, SitesApi sites, TemplatesApi templates,
+                               InventoryStore store, Duration refreshInterval) {
+        this.devicesApi = Objects.requireNonNull(devices);
+        this.sitesApi = Objects.requireNonNull(sites);
+        this.templatesApi = Objects.requireNonNull(templates);
+        this.store = Objects.requireNonNull(store);
+        this.refresher = new Refresher<>(this::load, this::install, refreshInterval);
+    }
+
+    /** Ready as soon as the snapshot file is loaded, or once DNAC answers when there is none. */
+    public InventoryImage start() throws Exception {
+        return Futures.await(startAsync());
+    }
+
+    public CompletableFuture<InventoryImage> startAsync() {
+        Optional<InventoryImage> persisted = store.load();
+        if (persisted.isPresent()) {
+            publish(persisted.get(), true);
+            refresher.announce(persisted.get());
+            reconcile().whenComplete((i, e) -> refresher.scheduleNext());
+            return CompletableFuture.completedFuture(persisted.get());
+        }
+        return reconcile().whenComplete((i, e) -> refresher.scheduleNext());
+    }
+
+    /** Pulls devices, sites and projects from DNAC in parallel; concurrent callers share one pull. */
+    public CompletableFuture<InventoryImage> reconcile() {
+        return refresher.refreshAsync();
+    }
+
+    /**
+     * Adds a listener called after every swap, including the one from disk at start, after those
+     * added earlier. Close the returned subscription to remove it.
+     */
+    public Subscription onSwap(Consumer<InventoryImage> listener) {
+        return refresher.onSwap(listener);
+    }
+
+    /** The current image, or null before {@link #start()} has produced one. */
+    public InventoryImage image() {
+        State s = current.get();
+        return s == null ? null : s.image();
+    }
+
+    /** Indexed device lookups over the current image. */
+    public InventorySnapshot devices() {
+        State s = current.get();
+        return s == null ? InventorySnapshot.empty() : s.devices();
+    }
+
+    public List<Site> sites() {
+        State s = current.get();
+        return s == null ? List.of() : s.image().sites();
+    }
+
+    public List<Project> projects() {
+        State s = current.get();
+        return s == null ? List.of() : s.image().projects();
+    }
+
+    /** True while serving the file loaded at start, i.e. before the first successful reconcile. */
+    public boolean servingFromDisk() {
+        State s = current.get();
+        return s != null && s.fromDisk();
+    }
+
+    public InventoryStore store() { return store; }
+    public long reconcileCount() { return refresher.loadCount(); }
+    public long reconcileFailureCount() { return refresher.failureCount(); }
+    public long saveFailureCount() { return saveFailures.sum(); }
+    /** onSwap listeners that threw; the others still ran. */
+    public long listenerFailureCount() { return refresher.listenerFailureCount(); }
+    /** Failure of the most recent reconcile, or null if it succeeded. */
+    public Throwable lastFailure() { return refresher.lastFailure(); }
+
+    /** Stops background reconciles; the current image stays readable. */
+    @Override public void close() {
+        refresher.close();
+    }
+
+    private CompletableFuture<InventoryImage> load() {
+        CompletableFuture<List<Device>> devices = devicesApi.listAllAsync();
+        CompletableFuture<List<Site>> sites = sitesApi.listAllAsync();
+        CompletableFuture<List<Project>> projects = templatesApi.listProjectsAsync();
+        return Futures.thenApply(CompletableFuture.allOf(devices, sites, projects),
+                v -> new InventoryImage(devices.join(), sites.join(),
+                        projects.join() == null ? List.of() : projects.join(), Instant.now()));
+    }
+
+    private void install(InventoryImage image) {
+        publish(image, false);
+        save(image);
+    }
+
+    private void publish(InventoryImage image, boolean fromDisk) {
+        InventorySnapshot devices = new InventorySnapshot(image.devices(), image.capturedAt(), versions.incrementAndGet());
+        current.set(new State(image, devices, fromDisk));
+    }
+
+    // A snapshot that can't be written only costs the next warm start; the fresh image is still served.
+    private void save(InventoryImage image) {
+        try {
+            store.save(image);
+        } catch (Exception e) {
+            saveFailures.increment();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+// com/dnac/sdk/inventory/Refresher.java
+package com.dnac.sdk.inventory;
+
+import com.dnac.sdk.http.Futures;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * The reload loop behind {@link DeviceInventory} and {@link PersistentInventory}: single-flight
+ * loads, the swap, onSwap listeners, failure bookkeeping and the repeat every {@code interval} on
+ * the JDK timer. A failed load leaves the owner's current value alone.
+ */
+final class Refresher<T> implements AutoCloseable {
+    private final Supplier<CompletableFuture<T>> load;
+    private final Consumer<T> swap;
+    private final Duration interval;
+    private final AtomicReference<CompletableFuture<T>> inflight = new AtomicReference<>();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private volatile Throwable lastFailure;
+    private final List<Consumer<T>> listeners = new CopyOnWriteArrayList<>();
+    private final LongAdder listenerFailures = new LongAdder();
+    private volatile boolean closed;
+
+    /** {@code swap} installs a loaded value before listeners see it; a non-positive {@code interval} never repeats. */
+    Refresher(Supplier<CompletableFuture<T>> load, Consumer<T> swap, Duration interval) {
+        this.load = Objects.requireNonNull(load);
+        this.swap = Objects.requireNonNull(swap);
+        this.interval = interval == null ? Duration.ZERO : interval;
+    }
+
+    /** Loads and swaps in a new value; concurrent callers share one load, each with its own future. */
+    CompletableFuture<T> refreshAsync() {
+        while (true) {
+            CompletableFuture<T> running = inflight.get();
+            if (running != null) return running.copy();
+            CompletableFuture<T> mine = new CompletableFuture<>();
+            if (!inflight.compareAndSet(null, mine)) continue;
+            CompletableFuture<T> loading;
+            try {
+                loading = load.get();
+            } catch (RuntimeException e) {
+                loading = CompletableFuture.failedFuture(e);
+            }
+            loading.whenComplete((value, err) -> {
+                inflight.set(null);
+                if (err != null) {
+                    failures.increment();
+                    lastFailure = Futures.unwrap(err);
+                    mine.completeExceptionally(lastFailure);
+                    return;
+                }
+                try {
+                    swap.accept(value);
+                    loads.increment();
+                    lastFailure = null;
+                    announce(value);
+                    mine.complete(value);
+                } catch (RuntimeException e) {
+                    failures.increment();
+                    lastFailure = e;
+                    mine.completeExceptionally(e);
+                }
+            });
+            return mine.copy();
+        }
+    }
+
+    /** Adds a listener called on the refreshing thread after every swap, after those added earlier. */
+    Subscription onSwap(Consumer<T> listener) {
+        Consumer<T> l = Objects.requireNonNull(listener)::accept; // own identity, so removal is exact
+        listeners.add(l);
+        return () -> listeners.remove(l);
+    }
+
+    /** Tells the listeners about a value the owner installed itself (e.g. one read from disk). */
+    void announce(T value) {
+        for (Consumer<T> l : listeners) {
+            try {
+                l.accept(value);
+            } catch (RuntimeException e) {
+                listenerFailures.increment(); // one bad listener must not starve the rest
+            }
+        }
+    }
+
+    /** Queues the next background load; each completed load queues the one after it. */
+    void scheduleNext() {
+        if (closed || interval.isZero() || interval.isNegative()) return;
+        CompletableFuture.runAsync(() -> {
+            if (closed) return;
+            refreshAsync().whenComplete((v, e) -> scheduleNext());
+        }, Futures.delayed(interval.toMillis()));
+    }
+
+    long loadCount() { return loads.sum(); }
+    long failureCount() { return failures.sum(); }
+    long listenerFailureCount() { return listenerFailures.sum(); }
+    Throwable lastFailure() { return lastFailure; }
+
+    /** Stops background loads; an explicit {@link #refreshAsync()} still works. */
+    @Override public void close() {
+        closed = true;
+    }
+}
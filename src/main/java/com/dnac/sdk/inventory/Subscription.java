@@ -0,0 +1,8 @@
+// com/dnac/sdk/inventory/Subscription.java
+package com.dnac.sdk.inventory;
+
+/** Returned when a listener is registered; closing it removes that listener. Idempotent. */
+@FunctionalInterface
+public interface Subscription extends AutoCloseable {
+    @Override void close();
+}
@@ -0,0 +1,175 @@
+// com/dnac/sdk/limits/ConcurrencyLimiter.java
+package com.dnac.sdk.limits;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Caps requests in flight with a limit that follows observed latency (Vegas/gradient style, after
+ * Netflix's concurrency-limits). The no-load baseline is the minimum round trip seen, allowed to
+ * drift up slowly so a permanently slower controller is eventually accepted. A short EWMA of recent
+ * samples gives {@code gradient = baseline / recent} (clamped to [0.5, 1]) and the limit moves
+ * toward {@code limit * gradient + sqrt(limit)}. Latency rising above the baseline means DNAC is
+ * queueing, so the limit shrinks; flat latency lets it probe upward. It settles where the two
+ * balance, just past the controller's throughput knee. 429/503/504 and timeouts cut the limit by
+ * 10% outright.
+ * <p>
+ * Calls over the limit wait FIFO up to {@link ConcurrencyLimits#maxWait()}; once
+ * {@link ConcurrencyLimits#maxQueue()} callers are waiting, new ones fail fast.
+ */
+public final class ConcurrencyLimiter {
+    private static final double BASELINE_DRIFT = 0.001;
+    private static final double RECENT_SMOOTHING = 0.1;
+    private static final double LIMIT_SMOOTHING = 0.2;
+
+    private final ConcurrencyLimits cfg;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ArrayDeque<CompletableFuture<Permit>> waiters = new ArrayDeque<>(); // guarded by lock
+    private double limit;          // guarded by lock
+    private int inFlight;          // guarded by lock
+    private double baselineRtt;    // guarded by lock; nanos, 0 until the first sample
+    private double recentRtt;      // guarded by lock; nanos
+
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    private final LongAdder queuedTotal = new LongAdder();
+
+    public ConcurrencyLimiter(ConcurrencyLimits cfg) {
+        this.cfg = cfg;
+        this.limit = cfg.initialLimit();
+    }
+
+    /** Held for one HTTP exchange; release exactly once with the measured round trip. */
+    public final class Permit {
+        private final int inFlightAtAcquire;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(int inFlightAtAcquire) { this.inFlightAtAcquire = inFlightAtAcquire; }
+
+        /** {@code dropped} marks overload signals (429/503/504, timeouts) rather than a latency sample. */
+        public void release(long rttNanos, boolean dropped) {
+            if (released.compareAndSet(false, true)) onRelease(this, rttNanos, dropped, true);
+        }
+
+        /** Returns a slot that was never used for a request, e.g. the call gave up meanwhile; no latency sample. */
+        public void abandon() {
+            if (released.compareAndSet(false, true)) onRelease(this, 0, false, false);
+        }
+    }
+
+    /**
+     * Completes with a permit once a slot is free. Fails with RejectedExecutionException when the
+     * queue is full or the wait exceeds maxWait.
+     */
+    public CompletableFuture<Permit> acquire() {
+        lock.lock();
+        try {
+            if (waiters.isEmpty() && inFlight < currentLimit()) {
+                inFlight++;
+                return CompletableFuture.completedFuture(new Permit(inFlight));
+            }
+            if (waiters.size() >= cfg.maxQueue()) {
+                rejected.increment();
+                return CompletableFuture.failedFuture(new RejectedExecutionException(
+                        "Concurrency limit " + currentLimit() + " reached with " + waiters.size() + " callers queued"));
+            }
+            CompletableFuture<Permit> f = new CompletableFuture<>();
+            waiters.addLast(f);
+            queuedTotal.increment();
+            CompletableFuture.delayedExecutor(cfg.maxWait().toNanos(), TimeUnit.NANOSECONDS).execute(() -> expire(f));
+            return f;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int limit() {
+        lock.lock();
+        try { return currentLimit(); } finally { lock.unlock(); }
+    }
+
+    public int inFlight() {
+        lock.lock();
+        try { return inFlight; } finally { lock.unlock(); }
+    }
+
+    public int queueDepth() {
+        lock.lock();
+        try { return waiters.size(); } finally { lock.unlock(); }
+    }
+
+    public long rejectedCount() { return rejected.sum(); }
+    public long timedOutCount() { return timedOut.sum(); }
+    public long queuedCount() { return queuedTotal.sum(); }
+
+    private int currentLimit() { return (int) limit; }
+
+    private void expire(CompletableFuture<Permit> f) {
+        boolean removed;
+        lock.lock();
+        try {
+            removed = waiters.remove(f);
+        } finally {
+            lock.unlock();
+        }
+        if (removed) {
+            timedOut.increment();
+            f.completeExceptionally(new RejectedExecutionException(
+                    "No concurrency slot within " + cfg.maxWait().toMillis() + " ms"));
+        }
+    }
+
+    private void onRelease(Permit p, long rttNanos, boolean dropped, boolean sample) {
+        List<CompletableFuture<Permit>> granted = new ArrayList<>();
+        List<Permit> permits = new ArrayList<>();
+        lock.lock();
+        try {
+            inFlight--;
+            if (sample) adjust(rttNanos, dropped, p.inFlightAtAcquire);
+            while (!waiters.isEmpty() && inFlight < currentLimit()) {
+                CompletableFuture<Permit> f = waiters.pollFirst();
+                if (f.isDone()) continue; // caller cancelled
+                inFlight++;
+                granted.add(f);
+                permits.add(new Permit(inFlight));
+            }
+        } finally {
+            lock.unlock();
+        }
+        for (int i = 0; i < granted.size(); i++) {
+            Permit next = permits.get(i);
+            // Lost a race with cancellation: hand the slot straight back without a latency sample.
+            if (!granted.get(i).complete(next) && next.released.compareAndSet(false, true)) {
+                onRelease(next, 0, false, false);
+            }
+        }
+    }
+
+    // Caller holds the lock.
+    private void adjust(long rttNanos, boolean dropped, int inFlightAtAcquire) {
+        if (dropped) {
+            limit = Math.max(cfg.minLimit(), limit * 0.9);
+            return;
+        }
+        if (rttNanos <= 0) return;
+        if (baselineRtt == 0) {
+            baselineRtt = recentRtt = rttNanos;
+        } else {
+            recentRtt = recentRtt * (1 - RECENT_SMOOTHING) + rttNanos * RECENT_SMOOTHING;
+            baselineRtt = rttNanos < baselineRtt ? rttNanos : baselineRtt + (rttNanos - baselineRtt) * BASELINE_DRIFT;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, baselineRtt / recentRtt));
+        double target = limit * gradient + Math.sqrt(limit);
+        // Only grow on evidence: a call sent while we were using under half the limit says nothing about capacity.
+        if (target > limit && inFlightAtAcquire < limit / 2) return;
+        limit = Math.max(cfg.minLimit(), Math.min(cfg.maxLimit(), limit * (1 - LIMIT_SMOOTHING) + target * LIMIT_SMOOTHING));
+    }
+}
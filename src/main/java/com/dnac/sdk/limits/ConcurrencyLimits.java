@@ -0,0 +1,33 @@
+// com/dnac/sdk/limits/ConcurrencyLimits.java
+package com.dnac.sdk.limits;
+
+import java.time.Duration;
+
+/** Bounds and queueing policy for {@link ConcurrencyLimiter}. */
+public final class ConcurrencyLimits {
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final int maxQueue;      // 0 = fail fast as soon as the limit is reached
+    private final Duration maxWait;  // how long a queued call may wait for a slot
+
+    public ConcurrencyLimits(int initialLimit, int minLimit, int maxLimit, int maxQueue, Duration maxWait) {
+        if (minLimit < 1 || maxLimit < minLimit) throw new IllegalArgumentException("need 1 <= minLimit <= maxLimit");
+        if (maxQueue < 0) throw new IllegalArgumentException("maxQueue must be >= 0");
+        this.initialLimit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.maxQueue = maxQueue;
+        this.maxWait = maxWait == null ? Duration.ofSeconds(30) : maxWait;
+    }
+
+    public static ConcurrencyLimits dnacDefaults() {
+        return new ConcurrencyLimits(10, 2, 64, 10_000, Duration.ofSeconds(30));
+    }
+
+    public int initialLimit() { return initialLimit; }
+    public int minLimit() { return minLimit; }
+    public int maxLimit() { return maxLimit; }
+    public int maxQueue() { return maxQueue; }
+    public Duration maxWait() { return maxWait; }
+}
@@ -0,0 +1,20 @@
+// com/dnac/sdk/limits/EndpointFamily.java
+package com.dnac.sdk.limits;
+
+/** Groups DNAC endpoints that share a server-side rate limit. */
+public enum EndpointFamily {
+    AUTH,
+    INVENTORY,
+    TASK,
+    COMMAND_RUNNER,
+    OTHER;
+
+    public static EndpointFamily of(String path) {
+        if (path == null) return OTHER;
+        if (path.contains("/auth/token")) return AUTH;
+        if (path.contains("/network-device-poller/cli")) return COMMAND_RUNNER;
+        if (path.contains("/task") || path.contains("/file/")) return TASK;
+        if (path.contains("/network-device") || path.contains("/site") || path.contains("/template-programmer")) return INVENTORY;
+        return OTHER;
+    }
+}
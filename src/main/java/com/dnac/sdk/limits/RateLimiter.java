@@ -0,0 +1,215 @@
+// com/dnac/sdk/limits/RateLimiter.java
+package com.dnac.sdk.limits;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Client-side token buckets, one per {@link EndpointFamily}, shared by every caller of a client.
+ * <p>
+ * {@link #acquire} returns a future that completes when the request may be sent. Callers that
+ * cannot go immediately queue FIFO and are released one by one at the family's <em>current</em>
+ * rate, so a rate cut or a pause takes effect for requests already waiting and nothing stampedes
+ * when a pause ends. A 429 halves the family's rate (at most once per second, so a burst of 429s
+ * from in-flight requests counts once) and clean 2xx responses add it back linearly: classic AIMD,
+ * settling just under the controller's limit. A 429 carrying Retry-After also closes a global
+ * gate so <em>all</em> families hold off instead of the other threads continuing to hammer DNAC.
+ */
+public final class RateLimiter {
+    private static final long DECREASE_HOLD_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final CompletableFuture<Void> GO = CompletableFuture.completedFuture(null);
+
+    private final RateLimits limits;
+    private final EnumMap<EndpointFamily, Lane> lanes = new EnumMap<>(EndpointFamily.class);
+    private final AtomicLong pausedUntilNanos;
+
+    private final LongAdder throttled = new LongAdder();
+    private final LongAdder delayed = new LongAdder();
+    private final LongAdder pauses = new LongAdder();
+
+    public RateLimiter(RateLimits limits) {
+        this.limits = limits;
+        long now = System.nanoTime();
+        for (EndpointFamily f : EndpointFamily.values()) lanes.put(f, new Lane(limits.limits().get(f), now));
+        this.pausedUntilNanos = new AtomicLong(now);
+    }
+
+    /** Completes when a request of this family may be sent; usually already complete. */
+    public CompletableFuture<Void> acquire(EndpointFamily family) {
+        return lanes.get(family).acquire();
+    }
+
+    /** Feeds a response back into the limiter; {@code retryAfterMillis} is -1 when the header was absent. */
+    public void onResponse(EndpointFamily family, int status, long retryAfterMillis) {
+        Lane lane = lanes.get(family);
+        if (status == 429) {
+            throttled.increment();
+            lane.decrease(System.nanoTime());
+            if (retryAfterMillis > 0) pauseFor(retryAfterMillis);
+        } else if (status / 100 == 2) {
+            lane.increase();
+        }
+    }
+
+    /** Holds every family until at least now + millis. */
+    public void pauseFor(long millis) {
+        long target = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+        while (true) {
+            long cur = pausedUntilNanos.get();
+            if (cur - target >= 0) return;
+            if (pausedUntilNanos.compareAndSet(cur, target)) {
+                pauses.increment();
+                return;
+            }
+        }
+    }
+
+    public double currentRate(EndpointFamily family) { return lanes.get(family).rate(); }
+    public int queued(EndpointFamily family) { return lanes.get(family).queued(); }
+
+    public long pausedForMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(pauseRemainingNanos());
+    }
+
+    public long throttledCount() { return throttled.sum(); }
+    public long delayedCount() { return delayed.sum(); }
+    public long pauseCount() { return pauses.sum(); }
+
+    private long pauseRemainingNanos() {
+        return Math.max(0, pausedUntilNanos.get() - System.nanoTime());
+    }
+
+    /** One family's bucket and wait queue. A lane without a configured limit only obeys the pause gate. */
+    private final class Lane {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final ArrayDeque<CompletableFuture<Void>> waiters = new ArrayDeque<>();
+        private final boolean limited;
+        private final double ceiling;
+        private final double floor;
+        private final int burst;
+        private double rate;
+        private double tokens;
+        private long lastNanos;
+        private long lastDecreaseNanos;
+        private boolean drainScheduled;
+
+        Lane(RateLimits.Limit limit, long now) {
+            this.limited = limit != null;
+            this.ceiling = limited ? limit.ratePerSecond() : Double.POSITIVE_INFINITY;
+            this.floor = limited ? ceiling * limits.floorFraction() : Double.POSITIVE_INFINITY;
+            this.burst = limited ? limit.burst() : Integer.MAX_VALUE;
+            this.rate = ceiling;
+            this.tokens = limited ? burst : 0;
+            this.lastNanos = now;
+            this.lastDecreaseNanos = now - DECREASE_HOLD_NANOS;
+        }
+
+        CompletableFuture<Void> acquire() {
+            lock.lock();
+            try {
+                refill(System.nanoTime());
+                if (waiters.isEmpty() && pauseRemainingNanos() == 0 && (!limited || tokens >= 1)) {
+                    if (limited) tokens -= 1;
+                    return GO;
+                }
+                delayed.increment();
+                CompletableFuture<Void> f = new CompletableFuture<>();
+                waiters.addLast(f);
+                scheduleDrain();
+                return f;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void drain() {
+            List<CompletableFuture<Void>> released = new ArrayList<>();
+            lock.lock();
+            try {
+                drainScheduled = false;
+                refill(System.nanoTime());
+                if (pauseRemainingNanos() == 0) {
+                    while (!waiters.isEmpty() && (!limited || tokens >= 1)) {
+                        CompletableFuture<Void> f = waiters.pollFirst();
+                        if (f.isDone()) continue; // caller gave up
+                        if (limited) tokens -= 1;
+                        released.add(f);
+                    }
+                }
+                if (!waiters.isEmpty()) scheduleDrain();
+            } finally {
+                lock.unlock();
+            }
+            // Complete outside the lock: dependents start the HTTP send on this thread. A caller that
+            // gave up in between gets no token, so it goes back to the bucket.
+            int unused = 0;
+            for (CompletableFuture<Void> f : released) {
+                if (!f.complete(null)) unused++;
+            }
+            if (unused > 0 && limited) {
+                lock.lock();
+                try {
+                    tokens = Math.min(burst, tokens + unused);
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+
+        // Caller holds the lock.
+        private void scheduleDrain() {
+            if (drainScheduled) return;
+            drainScheduled = true;
+            long wait = pauseRemainingNanos();
+            if (wait == 0 && limited && tokens < 1) wait = (long) ((1 - tokens) / rate * 1e9);
+            CompletableFuture.delayedExecutor(Math.max(wait, 1), TimeUnit.NANOSECONDS).execute(this::drain);
+        }
+
+        private void refill(long now) {
+            if (limited) tokens = Math.min(burst, tokens + (now - lastNanos) / 1e9 * rate);
+            lastNanos = now;
+        }
+
+        void decrease(long now) {
+            if (!limited) return;
+            lock.lock();
+            try {
+                if (now - lastDecreaseNanos < DECREASE_HOLD_NANOS) return;
+                refill(now);
+                lastDecreaseNanos = now;
+                rate = Math.max(floor, rate * limits.decreaseFactor());
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // +increasePerSecond req/s for every second's worth of successful requests at the current rate.
+        void increase() {
+            if (!limited) return;
+            lock.lock();
+            try {
+                refill(System.nanoTime());
+                rate = Math.min(ceiling, rate + limits.increasePerSecond() / rate);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        double rate() {
+            lock.lock();
+            try { return rate; } finally { lock.unlock(); }
+        }
+
+        int queued() {
+            lock.lock();
+            try { return waiters.size(); } finally { lock.unlock(); }
+        }
+    }
+}
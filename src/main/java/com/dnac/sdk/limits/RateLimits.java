@@ -0,0 +1,62 @@
+// com/dnac/sdk/limits/RateLimits.java
+package com.dnac.sdk.limits;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Per-family request rate ceilings for {@link RateLimiter}, plus the AIMD tuning used when DNAC
+ * answers 429. Families without an explicit limit are not throttled (only the global pause applies).
+ */
+public final class RateLimits {
+    public record Limit(double ratePerSecond, int burst) {
+        public Limit {
+            if (ratePerSecond <= 0) throw new IllegalArgumentException("ratePerSecond must be > 0");
+            if (burst < 1) throw new IllegalArgumentException("burst must be >= 1");
+        }
+    }
+
+    private final EnumMap<EndpointFamily, Limit> limits;
+    private final double decreaseFactor;   // multiplicative cut on 429
+    private final double increasePerSecond; // additive recovery, in requests/s per second of clean traffic
+    private final double floorFraction;    // never adapt below this fraction of the ceiling
+
+    private RateLimits(EnumMap<EndpointFamily, Limit> limits, double decreaseFactor,
+                       double increasePerSecond, double floorFraction) {
+        this.limits = limits;
+        this.decreaseFactor = decreaseFactor;
+        this.increasePerSecond = increasePerSecond;
+        this.floorFraction = floorFraction;
+    }
+
+    /** No per-family limits; 429 Retry-After still pauses every caller. */
+    public static RateLimits none() {
+        return new RateLimits(new EnumMap<>(EndpointFamily.class), 0.5, 1.0, 0.1);
+    }
+
+    /** Conservative starting point; tune against your controller's published API limits. */
+    public static RateLimits dnacDefaults() {
+        return none()
+                .with(EndpointFamily.AUTH, 1, 2)
+                .with(EndpointFamily.INVENTORY, 10, 10)
+                .with(EndpointFamily.TASK, 20, 20)
+                .with(EndpointFamily.COMMAND_RUNNER, 2, 2);
+    }
+
+    public RateLimits with(EndpointFamily family, double ratePerSecond, int burst) {
+        EnumMap<EndpointFamily, Limit> copy = new EnumMap<>(limits);
+        copy.put(family, new Limit(ratePerSecond, burst));
+        return new RateLimits(copy, decreaseFactor, increasePerSecond, floorFraction);
+    }
+
+    public RateLimits withAimd(double decreaseFactor, double increasePerSecond, double floorFraction) {
+        if (decreaseFactor <= 0 || decreaseFactor >= 1) throw new IllegalArgumentException("decreaseFactor must be in (0,1)");
+        if (floorFraction <= 0 || floorFraction > 1) throw new IllegalArgumentException("floorFraction must be in (0,1]");
+        return new RateLimits(limits, decreaseFactor, increasePerSecond, floorFraction);
+    }
+
+    public Map<EndpointFamily, Limit> limits() { return Map.copyOf(limits); }
+    public double decreaseFactor() { return decreaseFactor; }
+    public double increasePerSecond() { return increasePerSecond; }
+    public double floorFraction() { return floorFraction; }
+}
@@ -0,0 +1,114 @@
+// com/dnac/sdk/limits/RetryBudget.java
+package com.dnac.sdk.limits;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Caps retries across every call of a client. Within a sliding window (ten slots), retries may
+ * number at most {@code retryRatio} times the successful requests, or
+ * {@code minRetriesPerSecond * window} if that is more. A healthy controller leaves room for the
+ * odd retry; when most requests are failing, successes dry up, the budget shrinks to the floor and
+ * further failures fail fast instead of multiplying the load on a struggling DNAC.
+ */
+public final class RetryBudget {
+    private static final int SLOTS = 10;
+
+    private final RetryLimits cfg;
+    private final long slotNanos;
+    private final long floor;
+    private final long[] successes = new long[SLOTS];
+    private final long[] retries = new long[SLOTS];
+    private final ReentrantLock lock = new ReentrantLock();
+    private long currentSlot;       // absolute slot number (nanoTime / slotNanos) of the newest slot
+    private long successesInWindow; // running sums over the ring
+    private long retriesInWindow;
+
+    private final LongAdder permitted = new LongAdder();
+    private final LongAdder suppressed = new LongAdder();
+
+    public RetryBudget(RetryLimits cfg) {
+        this.cfg = cfg;
+        this.slotNanos = cfg.window().toNanos() / SLOTS;
+        this.floor = (long) Math.ceil(cfg.minRetriesPerSecond() * (cfg.window().toNanos() / 1e9));
+        this.currentSlot = Math.floorDiv(System.nanoTime(), slotNanos);
+    }
+
+    /** Records a successful request; each one earns {@code retryRatio} of a retry. */
+    public void onSuccess() {
+        lock.lock();
+        try {
+            int i = advance();
+            successes[i]++;
+            successesInWindow++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Takes one retry from the budget; false (counted as suppressed) when it is spent. */
+    public boolean tryRetry() {
+        lock.lock();
+        try {
+            int i = advance();
+            if (retriesInWindow >= allowance()) {
+                suppressed.increment();
+                return false;
+            }
+            retries[i]++;
+            retriesInWindow++;
+        } finally {
+            lock.unlock();
+        }
+        permitted.increment();
+        return true;
+    }
+
+    /** Retries that could start right now. */
+    public long available() {
+        lock.lock();
+        try {
+            advance();
+            return Math.max(0, allowance() - retriesInWindow);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Successful requests within the window. */
+    public long recentSuccesses() {
+        lock.lock();
+        try {
+            advance();
+            return successesInWindow;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Retries the budget allowed. */
+    public long permittedCount() { return permitted.sum(); }
+    /** Retries refused because the budget was spent; those calls failed with the error at hand. */
+    public long suppressedCount() { return suppressed.sum(); }
+    public RetryLimits limits() { return cfg; }
+
+    // Caller holds the lock.
+    private long allowance() {
+        return Math.max(floor, (long) (cfg.retryRatio() * successesInWindow));
+    }
+
+    // Caller holds the lock. Clears slots that have aged out of the window; returns the newest slot's index.
+    private int advance() {
+        long slot = Math.floorDiv(System.nanoTime(), slotNanos);
+        long steps = Math.min(slot - currentSlot, SLOTS);
+        for (long s = 1; s <= steps; s++) {
+            int i = (int) Math.floorMod(currentSlot + s, (long) SLOTS);
+            successesInWindow -= successes[i];
+            retriesInWindow -= retries[i];
+            successes[i] = 0;
+            retries[i] = 0;
+        }
+        if (slot > currentSlot) currentSlot = slot;
+        return (int) Math.floorMod(currentSlot, (long) SLOTS);
+    }
+}
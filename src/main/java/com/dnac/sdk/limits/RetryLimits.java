@@ -0,0 +1,29 @@
+// com/dnac/sdk/limits/RetryLimits.java
+package com.dnac.sdk.limits;
+
+import java.time.Duration;
+
+/** Sizing for {@link RetryBudget}: retries allowed per recent success, and the floor below that. */
+public final class RetryLimits {
+    private final double retryRatio;         // retries allowed per successful request in the window
+    private final int minRetriesPerSecond;   // floor, so a quiet client can still retry
+    private final Duration window;           // how far back "recent" reaches
+
+    public RetryLimits(double retryRatio, int minRetriesPerSecond, Duration window) {
+        if (!(retryRatio >= 0)) throw new IllegalArgumentException("retryRatio must be >= 0");
+        if (minRetriesPerSecond < 0) throw new IllegalArgumentException("minRetriesPerSecond must be >= 0");
+        this.retryRatio = retryRatio;
+        this.minRetriesPerSecond = minRetriesPerSecond;
+        this.window = window == null ? Duration.ofSeconds(10) : window;
+        if (this.window.toMillis() < 100) throw new IllegalArgumentException("window must be at least 100 ms");
+    }
+
+    /** Retries may add at most 10% on top of recent successes, and never fewer than 5 per second. */
+    public static RetryLimits dnacDefaults() {
+        return new RetryLimits(0.1, 5, Duration.ofSeconds(10));
+    }
+
+    public double retryRatio() { return retryRatio; }
+    public int minRetriesPerSecond() { return minRetriesPerSecond; }
+    public Duration window() { return window; }
+}
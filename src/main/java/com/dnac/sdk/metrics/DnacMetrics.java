@@ -0,0 +1,30 @@
+// com/dnac/sdk/metrics/DnacMetrics.java
+package com.dnac.sdk.metrics;
+
+/**
+ * Instrumentation hooks called by the HTTP executor and auth providers. {@code endpoint} is an
+ * endpoint template from {@link EndpointTemplates#of(String)} (ids replaced by placeholders), so
+ * label cardinality stays bounded. Implementations must be thread-safe and cheap: they run on the
+ * request path.
+ */
+public interface DnacMetrics {
+    DnacMetrics NOOP = new DnacMetrics() {};
+
+    /** One HTTP exchange (a single attempt). {@code status} is -1 when no response arrived. */
+    default void requestCompleted(String method, String endpoint, int status, int attempt, long latencyNanos) {}
+
+    /** A retry was scheduled; {@code reason} is "401", "429", "5xx" or "transport". */
+    default void retryScheduled(String method, String endpoint, String reason, int attempt) {}
+
+    /** A retry was wanted but the shared retry budget was spent, so the call failed instead. */
+    default void retrySuppressed(String method, String endpoint, String reason, int attempt) {}
+
+    /** The call failed for good; {@code error} is typically the exception's simple class name. */
+    default void callFailed(String method, String endpoint, String error) {}
+
+    /** Payload bytes sent and received by one attempt; -1 when unknown. */
+    default void bytes(String endpoint, long bytesOut, long bytesIn) {}
+
+    /** A token fetch against /auth/token finished. */
+    default void tokenFetched(long latencyNanos, boolean success) {}
+}
@@ -0,0 +1,38 @@
+// com/dnac/sdk/metrics/EndpointTemplates.java
+package com.dnac.sdk.metrics;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/** Maps concrete request paths to templates: /network-device/3f2a-... becomes /network-device/{id}. */
+public final class EndpointTemplates {
+    private static final Pattern ID_LIKE = Pattern.compile(
+            "[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}|\\d+|(?=.*\\d)[A-Za-z0-9._%~-]{12,}");
+    private static final int MAX_CACHED = 4096;
+    private static final ConcurrentHashMap<String, String> CACHE = new ConcurrentHashMap<>();
+
+    private EndpointTemplates() {}
+
+    public static String of(String path) {
+        if (path == null) return "";
+        String cached = CACHE.get(path);
+        if (cached != null) return cached;
+        String t = template(path);
+        if (CACHE.size() < MAX_CACHED) CACHE.put(path, t); // concrete ids are unbounded; stop caching at a cap
+        return t;
+    }
+
+    private static String template(String path) {
+        String[] segs = path.split("/", -1);
+        StringBuilder sb = new StringBuilder(path.length());
+        for (int i = 0; i < segs.length; i++) {
+            if (i > 0) sb.append('/');
+            String s = segs[i];
+            if (i > 0 && segs[i - 1].equals("serial-number")) sb.append("{serial}");
+            else if (i > 0 && (segs[i - 1].equals("task") || segs[i - 1].equals("file"))) sb.append("{id}");
+            else if (!s.isEmpty() && ID_LIKE.matcher(s).matches()) sb.append("{id}");
+            else sb.append(s);
+        }
+        return sb.toString();
+    }
+}
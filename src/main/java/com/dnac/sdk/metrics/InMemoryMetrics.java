@@ -0,0 +1,111 @@
+// com/dnac/sdk/metrics/InMemoryMetrics.java
+package com.dnac.sdk.metrics;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps every metric in memory (histograms per method + endpoint template, labelled counters) and
+ * renders them in the Prometheus text format. Pass it to DnacConfig.withMetrics and, optionally,
+ * serve it with {@link PrometheusEndpoint}.
+ */
+public final class InMemoryMetrics implements DnacMetrics {
+    private record Key(String name, String labels) {}
+
+    private final ConcurrentHashMap<Key, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Key, LongAdder> counters = new ConcurrentHashMap<>();
+
+    @Override public void requestCompleted(String method, String endpoint, int status, int attempt, long latencyNanos) {
+        String statusClass = status < 0 ? "none" : (status / 100) + "xx";
+        histogramFor("dnac_request_duration_seconds", labels("method", method, "endpoint", endpoint)).recordNanos(latencyNanos);
+        counterFor("dnac_requests_total", labels("method", method, "endpoint", endpoint, "status", statusClass)).increment();
+        counterFor("dnac_request_attempts_total", labels("attempt", attempt >= 5 ? "5+" : String.valueOf(attempt))).increment();
+    }
+
+    @Override public void retryScheduled(String method, String endpoint, String reason, int attempt) {
+        counterFor("dnac_retries_total", labels("method", method, "endpoint", endpoint, "reason", reason)).increment();
+    }
+
+    @Override public void retrySuppressed(String method, String endpoint, String reason, int attempt) {
+        counterFor("dnac_retries_suppressed_total", labels("method", method, "endpoint", endpoint, "reason", reason)).increment();
+    }
+
+    @Override public void callFailed(String method, String endpoint, String error) {
+        counterFor("dnac_failures_total", labels("method", method, "endpoint", endpoint, "exception", error)).increment();
+    }
+
+    @Override public void bytes(String endpoint, long bytesOut, long bytesIn) {
+        if (bytesOut > 0) counterFor("dnac_bytes_sent_total", labels("endpoint", endpoint)).add(bytesOut);
+        if (bytesIn > 0) counterFor("dnac_bytes_received_total", labels("endpoint", endpoint)).add(bytesIn);
+    }
+
+    @Override public void tokenFetched(long latencyNanos, boolean success) {
+        histogramFor("dnac_token_fetch_duration_seconds", labels("outcome", success ? "success" : "failure")).recordNanos(latencyNanos);
+    }
+
+    /** Counter value for an exact label set as written by {@code labels(...)}, e.g. for tests and dashboards. */
+    public long counter(String name, String... labelPairs) {
+        LongAdder a = counters.get(new Key(name, labels(labelPairs)));
+        return a == null ? 0 : a.sum();
+    }
+
+    public LatencyHistogram histogram(String name, String... labelPairs) {
+        return histograms.get(new Key(name, labels(labelPairs)));
+    }
+
+    /** Prometheus text exposition (version 0.0.4); histograms are rendered as summaries. */
+    public void writePrometheus(Appendable out) throws IOException {
+        Map<String, Map<String, LongAdder>> byName = new TreeMap<>();
+        counters.forEach((k, v) -> byName.computeIfAbsent(k.name(), n -> new TreeMap<>()).put(k.labels(), v));
+        for (var e : byName.entrySet()) {
+            out.append("# TYPE ").append(e.getKey()).append(" counter\n");
+            for (var s : e.getValue().entrySet()) {
+                out.append(e.getKey()).append(braces(s.getKey())).append(' ').append(Long.toString(s.getValue().sum())).append('\n');
+            }
+        }
+        Map<String, Map<String, LatencyHistogram>> hByName = new TreeMap<>();
+        histograms.forEach((k, v) -> hByName.computeIfAbsent(k.name(), n -> new TreeMap<>()).put(k.labels(), v));
+        for (var e : hByName.entrySet()) {
+            String name = e.getKey();
+            out.append("# TYPE ").append(name).append(" summary\n");
+            for (var s : e.getValue().entrySet()) {
+                LatencyHistogram h = s.getValue();
+                for (double q : new double[]{0.5, 0.9, 0.95, 0.99}) {
+                    String l = s.getKey().isEmpty() ? "quantile=\"" + q + "\"" : s.getKey() + ",quantile=\"" + q + "\"";
+                    out.append(name).append('{').append(l).append("} ").append(Double.toString(h.quantileSeconds(q))).append('\n');
+                }
+                out.append(name).append("_sum").append(braces(s.getKey())).append(' ').append(Double.toString(h.sumSeconds())).append('\n');
+                out.append(name).append("_count").append(braces(s.getKey())).append(' ').append(Long.toString(h.count())).append('\n');
+            }
+        }
+    }
+
+    private LatencyHistogram histogramFor(String name, String labels) {
+        return histograms.computeIfAbsent(new Key(name, labels), k -> new LatencyHistogram());
+    }
+
+    private LongAdder counterFor(String name, String labels) {
+        return counters.computeIfAbsent(new Key(name, labels), k -> new LongAdder());
+    }
+
+    private static String braces(String labels) {
+        return labels.isEmpty() ? "" : "{" + labels + "}";
+    }
+
+    private static String labels(String... pairs) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i + 1 < pairs.length; i += 2) {
+            if (sb.length() > 0) sb.append(',');
+            sb.append(pairs[i]).append("=\"").append(escape(pairs[i + 1])).append('"');
+        }
+        return sb.toString();
+    }
+
+    private static String escape(String v) {
+        if (v == null) return "";
+        return v.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
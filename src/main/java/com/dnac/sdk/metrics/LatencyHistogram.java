@@ -0,0 +1,66 @@
+// com/dnac/sdk/metrics/LatencyHistogram.java
+package com.dnac.sdk.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Log-linear histogram in the spirit of HdrHistogram: each power-of-two range of microseconds is
+ * split into 8 linear sub-buckets, so any recorded value lands in a bucket at most 12.5% wide.
+ * Recording is one array increment plus two adders, with no locks or allocation. Range is 1µs to
+ * about 12 days; larger values are clamped into the last bucket.
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BITS = 3;
+    private static final int SUB = 1 << SUB_BITS;   // 8 sub-buckets per power of two
+    private static final int MAX_EXP = 40;          // 2^40 µs
+    private static final int BUCKETS = SUB + (MAX_EXP - SUB_BITS + 1) * SUB;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sumMicros = new LongAdder();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    public void recordNanos(long nanos) {
+        long us = Math.max(0, nanos / 1000);
+        counts.incrementAndGet(index(us));
+        count.increment();
+        sumMicros.add(us);
+        if (us > maxMicros.get()) maxMicros.accumulateAndGet(us, Math::max);
+    }
+
+    public long count() { return count.sum(); }
+    public double sumSeconds() { return sumMicros.sum() / 1e6; }
+    public double maxSeconds() { return maxMicros.get() / 1e6; }
+
+    /** Approximate quantile (0..1) in seconds: the upper edge of the bucket holding that rank. */
+    public double quantileSeconds(double q) {
+        long[] snap = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) total += (snap[i] = counts.get(i));
+        if (total == 0) return 0;
+        long rank = (long) Math.ceil(q * total);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snap[i];
+            if (seen >= Math.max(1, rank)) return Math.min(upperMicros(i), maxMicros.get()) / 1e6;
+        }
+        return maxSeconds();
+    }
+
+    static int index(long us) {
+        if (us < SUB) return (int) us;
+        int exp = 63 - Long.numberOfLeadingZeros(us);
+        if (exp > MAX_EXP) return BUCKETS - 1;
+        int mantissa = (int) ((us >>> (exp - SUB_BITS)) & (SUB - 1));
+        return SUB + (exp - SUB_BITS) * SUB + mantissa;
+    }
+
+    static long upperMicros(int index) {
+        if (index < SUB) return index + 1;
+        int exp = (index - SUB) / SUB + SUB_BITS;
+        int mantissa = (index - SUB) % SUB;
+        return (long) (SUB + mantissa + 1) << (exp - SUB_BITS);
+    }
+}
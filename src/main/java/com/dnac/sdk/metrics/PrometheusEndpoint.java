@@ -0,0 +1,42 @@
+// com/dnac/sdk/metrics/PrometheusEndpoint.java
+package com.dnac.sdk.metrics;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+/** Serves {@link InMemoryMetrics} at /metrics in the Prometheus text format (jdk.httpserver). */
+public final class PrometheusEndpoint implements AutoCloseable {
+    private final HttpServer server;
+
+    private PrometheusEndpoint(HttpServer server) { this.server = server; }
+
+    public static PrometheusEndpoint start(InMemoryMetrics metrics, InetSocketAddress bind) throws IOException {
+        HttpServer server = HttpServer.create(bind, 0);
+        server.createContext("/metrics", ex -> {
+            try (ex) {
+                if (!"GET".equals(ex.getRequestMethod())) {
+                    ex.sendResponseHeaders(405, -1);
+                    return;
+                }
+                StringBuilder sb = new StringBuilder(8192);
+                metrics.writePrometheus(sb);
+                byte[] body = sb.toString().getBytes(StandardCharsets.UTF_8);
+                ex.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+                ex.sendResponseHeaders(200, body.length);
+                try (OutputStream os = ex.getResponseBody()) {
+                    os.write(body);
+                }
+            }
+        });
+        server.start(); // default executor: scrapes are handled one at a time on the server thread
+        return new PrometheusEndpoint(server);
+    }
+
+    public InetSocketAddress address() { return server.getAddress(); }
+
+    @Override public void close() { server.stop(0); }
+}
@@ -0,0 +1,20 @@
+package com.dnac.sdk.model.command;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Map;
+
+/** One element of a Command Runner result file: the outputs for a single device. */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class CommandRunnerOutput {
+    public String deviceUuid;
+    public CommandResponses commandResponses;
+
+    /** Command text to output (SUCCESS) or error text (FAILURE, BLACKLISTED). */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class CommandResponses {
+        @JsonProperty("SUCCESS") public Map<String, String> success;
+        @JsonProperty("FAILURE") public Map<String, String> failure;
+        @JsonProperty("BLACKLISTED") public Map<String, String> blacklisted;
+    }
+}
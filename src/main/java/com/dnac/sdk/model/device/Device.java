@@ -11,4 +11,6 @@ public class Device {
     public String softwareVersion;
     public String serialNumber;
     public String platformId;
+    public Long lastUpdateTime;      // epoch millis of DNAC's last change to the record
+    public String lastUpdated;
 }
\ No newline at end of file
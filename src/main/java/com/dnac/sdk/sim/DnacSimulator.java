@@ -0,0 +1,530 @@
+// com/dnac/sdk/sim/DnacSimulator.java
+package com.dnac.sdk.sim;
+
+import com.dnac.sdk.limits.EndpointFamily;
+import com.dnac.sdk.metrics.EndpointTemplates;
+import com.dnac.sdk.model.device.Device;
+import com.dnac.sdk.model.site.Site;
+import com.dnac.sdk.model.template.Project;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * In-process DNAC stand-in on the JDK HttpServer, for load and performance testing of the SDK.
+ * <p>
+ * Serves token issue, paged and filtered /network-device (plus count, by id, by serial, add),
+ * /site and /site/count, template-programmer projects, and the Command Runner
+ * read-request, /task, /file flow over a synthetic inventory. Latency is sampled per response and
+ * applied on a timer, so slow responses do not pin server threads; 429/5xx injection and token
+ * expiry follow {@link SimulatorOptions}.
+ */
+public final class DnacSimulator implements AutoCloseable {
+    private static final String API = "/dna/intent/api/v1";
+    private static final String[] PLATFORMS = {"C9300-48U", "C9300-24P", "C9500-40X", "ISR4451-X/K9", "C9800-40-K9"};
+    private static final String[] TYPES = {"Cisco Catalyst 9300 Switch", "Cisco Catalyst 9300 Switch",
+            "Cisco Catalyst 9500 Switch", "Cisco 4451 Integrated Services Router", "Cisco Catalyst 9800-40 Wireless Controller"};
+
+    static {
+        // The JDK server writes headers and body separately; without TCP_NODELAY every response
+        // waits out the client's delayed ACK (~40 ms). Read once, when the first server starts.
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    private static final long TASK_RETENTION_NANOS = TimeUnit.MINUTES.toNanos(1); // finished tasks and unread files
+    private static final long SWEEP_SECONDS = 5;
+
+    private record Response(int status, byte[] body, Map<String, String> headers) {}
+    private record Task(List<String> deviceUuids, List<String> commands, long readyAtNanos, String fileId, String failure) {}
+
+    private final SimulatorOptions opts;
+    private final HttpServer server;
+    private final ExecutorService handlers;
+    private final ScheduledExecutorService delays;
+    private final ObjectMapper mapper = new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
+    private final List<Device> devices;
+    private final Map<String, Device> devicesById = new HashMap<>();
+    private final Map<String, Device> devicesBySerial = new HashMap<>();
+    private final List<Site> sites;
+    private final List<Project> projects = new CopyOnWriteArrayList<>();
+    private final ConcurrentHashMap<String, Long> tokens = new ConcurrentHashMap<>();   // token -> expiresAtNanos
+    private final ConcurrentHashMap<String, Task> tasks = new ConcurrentHashMap<>(); // kept TASK_RETENTION after ready
+    private final ConcurrentHashMap<String, Task> files = new ConcurrentHashMap<>(); // until fetched, or as tasks
+    private final AtomicLong tokenSeq = new AtomicLong();
+    private final AtomicLong draws = new AtomicLong(); // per-request random streams, derived from the seed
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder injected429 = new LongAdder();
+    private final LongAdder injected5xx = new LongAdder();
+    private final LongAdder unauthorized = new LongAdder();
+    private final ConcurrentHashMap<String, LongAdder> byEndpoint = new ConcurrentHashMap<>();
+
+    private DnacSimulator(SimulatorOptions opts, InetSocketAddress bind) throws IOException {
+        this.opts = opts;
+        SplittableRandom rnd = new SplittableRandom(opts.seed());
+        this.sites = generateSites(opts.sites(), rnd);
+        this.devices = generateDevices(opts.devices(), rnd);
+        for (Device d : devices) {
+            devicesById.put(d.id, d);
+            devicesBySerial.put(d.serialNumber, d);
+        }
+        for (int i = 1; i <= 3; i++) projects.add(project("Onboarding Configuration " + i, rnd));
+
+        int threads = Math.max(4, Runtime.getRuntime().availableProcessors());
+        this.handlers = Executors.newFixedThreadPool(threads, daemon("dnac-sim-http"));
+        this.delays = Executors.newScheduledThreadPool(2, daemon("dnac-sim-delay"));
+        // Long load runs issue tokens and tasks without end; drop what no client can use any more.
+        this.delays.scheduleWithFixedDelay(this::evictExpired, SWEEP_SECONDS, SWEEP_SECONDS, TimeUnit.SECONDS);
+        this.server = HttpServer.create(bind, 1024);
+        this.server.createContext("/", this::handle);
+        this.server.setExecutor(handlers);
+        this.server.start();
+    }
+
+    /** Starts on an ephemeral loopback port. */
+    public static DnacSimulator start(SimulatorOptions opts) throws IOException {
+        return start(opts, new InetSocketAddress("127.0.0.1", 0));
+    }
+
+    public static DnacSimulator start(SimulatorOptions opts, InetSocketAddress bind) throws IOException {
+        return new DnacSimulator(opts, bind);
+    }
+
+    /** Base URI to put into DnacConfig. */
+    public URI baseUri() {
+        return URI.create("http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort());
+    }
+
+    /** The synthetic inventory, e.g. to pick ids and serials for lookups. */
+    public List<Device> devices() { return Collections.unmodifiableList(devices); }
+    public List<Site> sites() { return Collections.unmodifiableList(sites); }
+
+    /** Invalidates every issued token; the next API call with one gets 401. */
+    public void revokeTokens() { tokens.clear(); }
+
+    public long requestCount() { return requests.sum(); }
+    public long injected429Count() { return injected429.sum(); }
+    public long injected5xxCount() { return injected5xx.sum(); }
+    public long unauthorizedCount() { return unauthorized.sum(); }
+    public long tokensIssued() { return tokenSeq.get(); }
+
+    /** Requests received per endpoint template. */
+    public Map<String, Long> requestsByEndpoint() {
+        Map<String, Long> m = new TreeMap<>();
+        byEndpoint.forEach((k, v) -> m.put(k, v.sum()));
+        return m;
+    }
+
+    @Override public void close() {
+        server.stop(0);
+        delays.shutdownNow();
+        handlers.shutdownNow();
+    }
+
+    // --- request handling ---
+
+    private void handle(HttpExchange ex) throws IOException {
+        requests.increment();
+        String path = ex.getRequestURI().getPath();
+        byEndpoint.computeIfAbsent(ex.getRequestMethod() + " " + EndpointTemplates.of(path), k -> new LongAdder()).increment();
+        byte[] body = ex.getRequestBody().readAllBytes();
+        SplittableRandom rnd = requestRandom();
+        Response r;
+        try {
+            r = route(ex, path, body, rnd);
+        } catch (Exception e) {
+            r = error(500, "INTERNAL", String.valueOf(e.getMessage()));
+        }
+        r = compress(ex.getRequestHeaders().getFirst("Accept-Encoding"), r);
+        long delay = opts.latency(EndpointFamily.of(path)).sampleNanos(rnd.nextGaussian());
+        Response response = r;
+        if (delay <= 0) send(ex, response);
+        else delays.schedule(() -> send(ex, response), delay, TimeUnit.NANOSECONDS);
+    }
+
+    private Response route(HttpExchange ex, String path, byte[] body, SplittableRandom rnd) throws Exception {
+        String method = ex.getRequestMethod();
+        if (path.endsWith("/auth/token")) {
+            return method.equals("POST") ? issueToken(ex.getRequestHeaders().getFirst("Authorization"), rnd) : error(405, "METHOD", method);
+        }
+        Long expires = tokenOf(ex.getRequestHeaders().getFirst("X-Auth-Token"));
+        if (expires == null || System.nanoTime() - expires >= 0) {
+            unauthorized.increment();
+            return error(401, "UNAUTHORIZED", "Missing, unknown or expired X-Auth-Token");
+        }
+        if (opts.rate429() > 0 && rnd.nextDouble() < opts.rate429()) {
+            injected429.increment();
+            return new Response(429, json(Map.of("message", "Too Many Requests")),
+                    Map.of("Retry-After", String.valueOf(opts.retryAfterSeconds())));
+        }
+        if (opts.rate5xx() > 0 && rnd.nextDouble() < opts.rate5xx()) {
+            injected5xx.increment();
+            return rnd.nextBoolean() ? error(503, "UNAVAILABLE", "Service Unavailable") : error(500, "INTERNAL", "Internal error");
+        }
+        if (!path.startsWith(API)) return error(404, "NOT_FOUND", path);
+
+        String rest = path.substring(API.length());
+        Map<String, List<String>> q = query(ex.getRequestURI().getRawQuery());
+        boolean get = method.equals("GET"), post = method.equals("POST");
+
+        if (get && rest.equals("/network-device")) {
+            List<Device> matched;
+            try {
+                matched = filterDevices(q);
+            } catch (PatternSyntaxException e) {
+                return error(400, "BAD_REQUEST", "Invalid filter pattern: " + e.getPattern());
+            }
+            return ok(page(matched, q));
+        }
+        if (post && rest.equals("/network-device")) return ok(taskCreated(completedTask()));
+        if (get && rest.equals("/network-device/count")) return ok(devices.size());
+        if (get && rest.startsWith("/network-device/serial-number/")) {
+            Device d = devicesBySerial.get(rest.substring("/network-device/serial-number/".length()));
+            return d == null ? error(404, "NOT_FOUND", "No device with that serial number") : ok(d);
+        }
+        if (get && rest.startsWith("/network-device/") && rest.indexOf('/', "/network-device/".length()) < 0) {
+            Device d = devicesById.get(rest.substring("/network-device/".length()));
+            return d == null ? error(404, "NOT_FOUND", "No device with that id") : ok(d);
+        }
+        if (get && rest.equals("/site")) return ok(page(sites, q));
+        if (get && rest.equals("/site/count")) return ok(sites.size());
+        if (rest.equals("/template-programmer/project")) {
+            if (get) return new Response(200, json(projects), Map.of());
+            if (post) return createProject(body);
+        }
+        if (post && rest.equals("/network-device-poller/cli/read-request")) return readRequest(body);
+        if (get && rest.startsWith("/task/")) return task(rest.substring("/task/".length()));
+        if (get && rest.startsWith("/file/")) return file(rest.substring("/file/".length()));
+        return error(404, "NOT_FOUND", method + " " + path);
+    }
+
+    private Response issueToken(String authorization, SplittableRandom rnd) throws IOException {
+        if (opts.username() != null) {
+            String expected = "Basic " + Base64.getEncoder().encodeToString(
+                    (opts.username() + ":" + opts.password()).getBytes(StandardCharsets.UTF_8));
+            if (!expected.equals(authorization)) {
+                unauthorized.increment();
+                return error(401, "UNAUTHORIZED", "Bad credentials");
+            }
+        }
+        String token = "sim-" + tokenSeq.incrementAndGet() + "-" + Long.toHexString(rnd.nextLong());
+        tokens.put(token, System.nanoTime() + opts.tokenTtl().toNanos());
+        return new Response(200, json(Map.of("Token", token)), Map.of());
+    }
+
+    // The n-th request always gets the same stream for a given seed, whichever thread serves it.
+    private SplittableRandom requestRandom() {
+        return new SplittableRandom(opts.seed() * 0x9E3779B97F4A7C15L + draws.incrementAndGet());
+    }
+
+    private Long tokenOf(String token) {
+        if (token == null) return null;
+        Long expires = tokens.get(token);
+        if (expires != null && System.nanoTime() - expires >= 0) tokens.remove(token, expires);
+        return expires;
+    }
+
+    private void evictExpired() {
+        long now = System.nanoTime();
+        tokens.values().removeIf(expires -> now - expires >= 0);
+        tasks.values().removeIf(t -> now - t.readyAtNanos() - TASK_RETENTION_NANOS >= 0);
+        files.values().removeIf(t -> now - t.readyAtNanos() - TASK_RETENTION_NANOS >= 0);
+    }
+
+    private List<Device> filterDevices(Map<String, List<String>> q) {
+        List<Predicate<Device>> filters = new ArrayList<>();
+        addFilter(filters, q.get("id"), d -> d.id);
+        addFilter(filters, q.get("hostname"), d -> d.hostname);
+        addFilter(filters, q.get("managementIpAddress"), d -> d.managementIpAddress);
+        addFilter(filters, q.get("serialNumber"), d -> d.serialNumber);
+        addFilter(filters, q.get("softwareVersion"), d -> d.softwareVersion);
+        addFilter(filters, q.get("type"), d -> d.type);
+        List<String> platforms = q.get("platformId");
+        if (platforms != null) {
+            Predicate<String> any = anyOf(platforms);
+            filters.add(d -> Arrays.stream(d.platformId.split(",")).map(String::trim).anyMatch(any) || any.test(d.platformId));
+        }
+        if (filters.isEmpty()) return devices;
+        List<Device> out = new ArrayList<>();
+        for (Device d : devices) {
+            if (filters.stream().allMatch(f -> f.test(d))) out.add(d);
+        }
+        return out;
+    }
+
+    // DNAC accepts repeated parameters (any may match) and ".*" wildcards.
+    private static void addFilter(List<Predicate<Device>> filters, List<String> values, Function<Device, String> field) {
+        if (values == null) return;
+        Predicate<String> any = anyOf(values);
+        filters.add(d -> any.test(field.apply(d)));
+    }
+
+    // Patterns are compiled here, once per request, not once per device; a bad one throws PatternSyntaxException.
+    private static Predicate<String> anyOf(List<String> filters) {
+        List<Predicate<String>> matchers = new ArrayList<>(filters.size());
+        for (String f : filters) {
+            if (f.contains("*")) {
+                Pattern p = Pattern.compile(f);
+                matchers.add(v -> p.matcher(v).matches());
+            } else {
+                matchers.add(f::equals);
+            }
+        }
+        return v -> v != null && matchers.stream().anyMatch(m -> m.test(v));
+    }
+
+    private <T> List<T> page(List<T> all, Map<String, List<String>> q) {
+        int offset = Math.max(1, intParam(q, "offset", 1));
+        int limit = Math.min(opts.maxPageSize(), Math.max(1, intParam(q, "limit", opts.maxPageSize())));
+        int from = Math.min(all.size(), offset - 1);
+        return all.subList(from, Math.min(all.size(), from + limit));
+    }
+
+    private Response createProject(byte[] body) throws IOException {
+        JsonNode req = mapper.readTree(body);
+        String name = req.path("name").asText("");
+        if (name.isBlank()) return error(400, "BAD_REQUEST", "Project name is required");
+        if (projects.stream().anyMatch(p -> p.name.equals(name))) return error(409, "CONFLICT", "Project already exists: " + name);
+        Project p = project(name, null);
+        p.description = req.path("description").asText(null);
+        projects.add(p);
+        return ok(taskCreated(completedTask()));
+    }
+
+    private Response readRequest(byte[] body) throws IOException {
+        JsonNode req = mapper.readTree(body);
+        List<String> uuids = new ArrayList<>(), commands = new ArrayList<>();
+        req.path("deviceUuids").forEach(n -> uuids.add(n.asText()));
+        req.path("commands").forEach(n -> commands.add(n.asText()));
+        if (uuids.isEmpty() || commands.isEmpty()) return error(400, "BAD_REQUEST", "deviceUuids and commands are required");
+        boolean anyKnown = uuids.stream().anyMatch(devicesById::containsKey);
+        String taskId = UUID.randomUUID().toString();
+        tasks.put(taskId, new Task(uuids, commands, System.nanoTime() + opts.commandTaskDuration().toNanos(),
+                UUID.randomUUID().toString(), anyKnown ? null : "None of the requested devices exist"));
+        return ok(taskCreated(taskId));
+    }
+
+    private String completedTask() {
+        String taskId = UUID.randomUUID().toString();
+        tasks.put(taskId, new Task(List.of(), List.of(), System.nanoTime(), null, null));
+        return taskId;
+    }
+
+    private Response task(String taskId) throws IOException {
+        Task t = tasks.get(taskId);
+        if (t == null) return error(404, "NOT_FOUND", "No task " + taskId);
+        Map<String, Object> r = new LinkedHashMap<>();
+        r.put("id", taskId);
+        boolean done = System.nanoTime() - t.readyAtNanos() >= 0;
+        if (!done) {
+            r.put("progress", "CLI Runner request creation");
+            r.put("isError", false);
+        } else if (t.failure() != null) {
+            r.put("progress", "CLI Runner request failed");
+            r.put("isError", true);
+            r.put("failureReason", t.failure());
+            r.put("endTime", System.currentTimeMillis());
+        } else if (t.fileId() != null) {
+            files.putIfAbsent(t.fileId(), t);
+            r.put("progress", mapper.writeValueAsString(Map.of("fileId", t.fileId())));
+            r.put("isError", false);
+            r.put("endTime", System.currentTimeMillis());
+        } else {
+            r.put("progress", "Task completed");
+            r.put("isError", false);
+            r.put("endTime", System.currentTimeMillis());
+        }
+        return ok(r);
+    }
+
+    private Response file(String fileId) throws IOException {
+        Task t = files.remove(fileId); // read once, like the SDK does
+        if (t == null) return error(404, "NOT_FOUND", "No file " + fileId);
+        SplittableRandom rnd = new SplittableRandom(fileId.hashCode());
+        List<Map<String, Object>> out = new ArrayList<>(t.deviceUuids().size());
+        for (String uuid : t.deviceUuids()) {
+            Device d = devicesById.get(uuid);
+            Map<String, String> success = new LinkedHashMap<>(), failure = new LinkedHashMap<>(), blacklisted = new LinkedHashMap<>();
+            for (String cmd : t.commands()) {
+                if (cmd.trim().startsWith("conf")) blacklisted.put(cmd, "Command is blacklisted");
+                else if (d == null) failure.put(cmd, "Device not found");
+                else if (rnd.nextDouble() < opts.commandFailureRate()) failure.put(cmd, "Timeout waiting for command output");
+                else success.put(cmd, output(cmd, d));
+            }
+            Map<String, Object> responses = new LinkedHashMap<>();
+            responses.put("SUCCESS", success);
+            responses.put("FAILURE", failure);
+            responses.put("BLACKLISTED", blacklisted);
+            out.add(Map.of("deviceUuid", uuid, "commandResponses", responses));
+        }
+        return new Response(200, json(out), Map.of());
+    }
+
+    private static String output(String cmd, Device d) {
+        if (cmd.startsWith("show version")) {
+            return "Cisco IOS XE Software, Version " + d.softwareVersion + "\n" + d.hostname + " uptime is 12 weeks, 3 days\n"
+                    + "cisco " + d.platformId + " processor\nProcessor board ID " + d.serialNumber + "\n";
+        }
+        if (cmd.startsWith("show ip int")) {
+            return "Interface              IP-Address      OK? Method Status                Protocol\n"
+                    + "Vlan1                  unassigned      YES NVRAM  administratively down down\n"
+                    + "GigabitEthernet0/0     " + pad(d.managementIpAddress, 15) + " YES NVRAM  up                    up\n"
+                    + "GigabitEthernet1/0/1   unassigned      YES unset  up                    up\n";
+        }
+        return d.hostname + "#" + cmd + "\n% simulated output\n";
+    }
+
+    private static String pad(String s, int n) {
+        return s.length() >= n ? s : s + " ".repeat(n - s.length());
+    }
+
+    private Response ok(Object response) throws IOException {
+        Map<String, Object> env = new LinkedHashMap<>();
+        env.put("response", response);
+        env.put("version", "1.0");
+        return new Response(200, json(env), Map.of());
+    }
+
+    private static Map<String, String> taskCreated(String taskId) {
+        return Map.of("taskId", taskId, "url", "/api/v1/task/" + taskId);
+    }
+
+    private Response error(int status, String code, String message) throws IOException {
+        Map<String, String> body = new LinkedHashMap<>();
+        body.put("errorCode", code);
+        body.put("message", message);
+        return new Response(status, json(body), Map.of());
+    }
+
+    private byte[] json(Object o) throws IOException {
+        return mapper.writeValueAsBytes(o);
+    }
+
+    // Like a real controller: gzip when the client asks and the body is worth it.
+    private static Response compress(String acceptEncoding, Response r) throws IOException {
+        if (acceptEncoding == null || !acceptEncoding.contains("gzip") || r.body().length < 1024) return r;
+        ByteArrayOutputStream buf = new ByteArrayOutputStream(r.body().length / 4);
+        try (GZIPOutputStream gz = new GZIPOutputStream(buf)) {
+            gz.write(r.body());
+        }
+        Map<String, String> headers = new HashMap<>(r.headers());
+        headers.put("Content-Encoding", "gzip");
+        return new Response(r.status(), buf.toByteArray(), headers);
+    }
+
+    private static void send(HttpExchange ex, Response r) {
+        try (ex) {
+            ex.getResponseHeaders().set("Content-Type", "application/json");
+            r.headers().forEach((k, v) -> ex.getResponseHeaders().set(k, v));
+            boolean empty = r.body().length == 0 || ex.getRequestMethod().equals("HEAD");
+            ex.sendResponseHeaders(r.status(), empty ? -1 : r.body().length);
+            if (empty) return;
+            try (OutputStream os = ex.getResponseBody()) {
+                os.write(r.body());
+            }
+        } catch (IOException ignore) {
+            // client went away
+        }
+    }
+
+    private static Map<String, List<String>> query(String raw) {
+        if (raw == null || raw.isEmpty()) return Map.of();
+        Map<String, List<String>> q = new HashMap<>();
+        for (String kv : raw.split("&")) {
+            int eq = kv.indexOf('=');
+            String k = URLDecoder.decode(eq < 0 ? kv : kv.substring(0, eq), StandardCharsets.UTF_8);
+            String v = eq < 0 ? "" : URLDecoder.decode(kv.substring(eq + 1), StandardCharsets.UTF_8);
+            for (String part : v.split(",")) q.computeIfAbsent(k, x -> new ArrayList<>()).add(part);
+        }
+        return q;
+    }
+
+    private static int intParam(Map<String, List<String>> q, String name, int dflt) {
+        List<String> v = q.get(name);
+        if (v == null || v.isEmpty()) return dflt;
+        try {
+            return Integer.parseInt(v.get(0));
+        } catch (NumberFormatException e) {
+            return dflt;
+        }
+    }
+
+    // --- synthetic inventory ---
+
+    private static List<Device> generateDevices(int n, SplittableRandom rnd) {
+        List<Device> out = new ArrayList<>(n);
+        long baseTime = 1_700_000_000_000L;
+        for (int i = 0; i < n; i++) {
+            int kind = rnd.nextInt(PLATFORMS.length);
+            Device d = new Device();
+            d.id = uuid(rnd);
+            d.hostname = String.format("sim-%s-%05d.lab.example", kind == 3 ? "rtr" : kind == 4 ? "wlc" : "sw", i);
+            d.managementIpAddress = "10." + ((i >> 16) & 255) + "." + ((i >> 8) & 255) + "." + (i & 255);
+            d.serialNumber = String.format("FOC%07dSIM", i);
+            d.platformId = kind == 0 && i % 10 == 0 ? PLATFORMS[0] + ", " + PLATFORMS[0] : PLATFORMS[kind];
+            d.type = TYPES[kind];
+            d.softwareVersion = kind == 3 ? "17.6.5" : "17.9.4";
+            d.lastUpdateTime = baseTime + rnd.nextInt(86_400_000);
+            d.lastUpdated = new java.text.SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(new Date(d.lastUpdateTime));
+            out.add(d);
+        }
+        return out;
+    }
+
+    private static List<Site> generateSites(int n, SplittableRandom rnd) {
+        List<Site> out = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            Site s = new Site();
+            s.id = uuid(rnd);
+            s.name = String.format("Site-%03d", i);
+            s.siteNameHierarchy = "Global/Area-" + (i / 10) + "/" + s.name;
+            s.siteHierarchy = s.id;
+            s.instanceTenantId = "sim-tenant";
+            out.add(s);
+        }
+        return out;
+    }
+
+    private static Project project(String name, SplittableRandom rnd) {
+        Project p = new Project();
+        p.id = rnd == null ? UUID.randomUUID().toString() : uuid(rnd);
+        p.name = name;
+        p.isDeletable = true;
+        p.lastUpdateTime = System.currentTimeMillis();
+        p.templates = List.of();
+        return p;
+    }
+
+    private static String uuid(SplittableRandom rnd) {
+        return new UUID((rnd.nextLong() & ~0xF000L) | 0x4000L, (rnd.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L).toString();
+    }
+
+    private static ThreadFactory daemon(String name) {
+        AtomicLong n = new AtomicLong();
+        return r -> {
+            Thread t = new Thread(r, name + "-" + n.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+}
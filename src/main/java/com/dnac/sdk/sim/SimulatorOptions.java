@@ -0,0 +1,143 @@
+// com/dnac/sdk/sim/SimulatorOptions.java
+package com.dnac.sdk.sim;
+
+import com.dnac.sdk.limits.EndpointFamily;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Shape and misbehaviour of a {@link DnacSimulator}. Defaults are a fast, well-behaved controller
+ * (1000 devices, no latency, no injected errors); each with* method returns a modified copy.
+ */
+public final class SimulatorOptions {
+
+    /** Log-normal response delay given by its median and 99th percentile; equal values mean a fixed delay. */
+    public record Latency(Duration median, Duration p99) {
+        public static final Latency NONE = new Latency(Duration.ZERO, Duration.ZERO);
+
+        public static Latency fixed(Duration d) { return new Latency(d, d); }
+
+        long sampleNanos(double gaussian) {
+            long med = median.toNanos();
+            if (med <= 0) return 0;
+            long p = Math.max(med, p99.toNanos());
+            if (p == med) return med;
+            double sigma = Math.log((double) p / med) / 2.326; // z(0.99)
+            return (long) (med * Math.exp(sigma * gaussian));
+        }
+    }
+
+    private int devices = 1000;
+    private int sites = 50;
+    private String username;                 // null = accept any credentials
+    private String password;
+    private Duration tokenTtl = Duration.ofMinutes(60);
+    private Latency latency = Latency.NONE;
+    private final Map<EndpointFamily, Latency> familyLatency = new EnumMap<>(EndpointFamily.class);
+    private double rate429;
+    private int retryAfterSeconds = 1;
+    private double rate5xx;
+    private Duration commandTaskDuration = Duration.ofSeconds(2);
+    private double commandFailureRate;
+    private int maxPageSize = 500;
+    private long seed = 42;
+
+    public SimulatorOptions() {}
+
+    private SimulatorOptions(SimulatorOptions o) {
+        devices = o.devices; sites = o.sites; username = o.username; password = o.password;
+        tokenTtl = o.tokenTtl; latency = o.latency; familyLatency.putAll(o.familyLatency);
+        rate429 = o.rate429; retryAfterSeconds = o.retryAfterSeconds; rate5xx = o.rate5xx;
+        commandTaskDuration = o.commandTaskDuration; commandFailureRate = o.commandFailureRate;
+        maxPageSize = o.maxPageSize; seed = o.seed;
+    }
+
+    public static SimulatorOptions defaults() { return new SimulatorOptions(); }
+
+    /** Size of the synthetic inventory. */
+    public SimulatorOptions withInventory(int devices, int sites) {
+        SimulatorOptions c = new SimulatorOptions(this);
+        c.devices = devices; c.sites = sites;
+        return c;
+    }
+
+    /** Only these credentials get a token; others get 401. */
+    public SimulatorOptions withCredentials(String username, String password) {
+        SimulatorOptions c = new SimulatorOptions(this);
+        c.username = username; c.password = password;
+        return c;
+    }
+
+    /** Tokens stop working after {@code ttl}; requests with an expired token get 401. */
+    public SimulatorOptions withTokenTtl(Duration ttl) {
+        SimulatorOptions c = new SimulatorOptions(this);
+        c.tokenTtl = ttl;
+        return c;
+    }
+
+    /** Delay applied to every response unless a family-specific latency is set. */
+    public SimulatorOptions withLatency(Latency latency) {
+        SimulatorOptions c = new SimulatorOptions(this);
+        c.latency = latency;
+        return c;
+    }
+
+    public SimulatorOptions withLatency(EndpointFamily family, Latency latency) {
+        SimulatorOptions c = new SimulatorOptions(this);
+        c.familyLatency.put(family, latency);
+        return c;
+    }
+
+    /** Fraction of API calls (0..1) answered 429 with the given Retry-After. */
+    public SimulatorOptions with429(double rate, int retryAfterSeconds) {
+        SimulatorOptions c = new SimulatorOptions(this);
+        c.rate429 = rate; c.retryAfterSeconds = retryAfterSeconds;
+        return c;
+    }
+
+    /** Fraction of API calls (0..1) answered 500 or 503. */
+    public SimulatorOptions with5xx(double rate) {
+        SimulatorOptions c = new SimulatorOptions(this);
+        c.rate5xx = rate;
+        return c;
+    }
+
+    /** How long a command-runner task runs before its fileId appears, and how many devices fail. */
+    public SimulatorOptions withCommandRunner(Duration taskDuration, double deviceFailureRate) {
+        SimulatorOptions c = new SimulatorOptions(this);
+        c.commandTaskDuration = taskDuration; c.commandFailureRate = deviceFailureRate;
+        return c;
+    }
+
+    public SimulatorOptions withMaxPageSize(int maxPageSize) {
+        SimulatorOptions c = new SimulatorOptions(this);
+        c.maxPageSize = maxPageSize;
+        return c;
+    }
+
+    /**
+     * Seed for the inventory and for latency, 429/5xx and token sampling: the n-th request always
+     * draws the same values, so runs are repeatable up to the order concurrent requests arrive in.
+     */
+    public SimulatorOptions withSeed(long seed) {
+        SimulatorOptions c = new SimulatorOptions(this);
+        c.seed = seed;
+        return c;
+    }
+
+    public int devices() { return devices; }
+    public int sites() { return sites; }
+    public String username() { return username; }
+    public String password() { return password; }
+    public Duration tokenTtl() { return tokenTtl; }
+    public Latency latency(EndpointFamily family) { return familyLatency.getOrDefault(family, latency); }
+    public double rate429() { return rate429; }
+    public int retryAfterSeconds() { return retryAfterSeconds; }
+    public double rate5xx() { return rate5xx; }
+    public Duration commandTaskDuration() { return commandTaskDuration; }
+    public double commandFailureRate() { return commandFailureRate; }
+    public int maxPageSize() { return maxPageSize; }
+    public long seed() { return seed; }
+}